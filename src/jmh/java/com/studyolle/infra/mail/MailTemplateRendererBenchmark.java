@@ -0,0 +1,75 @@
+package com.studyolle.infra.mail;
+
+import com.studyolle.infra.config.AppProperties;
+import org.openjdk.jmh.annotations.*;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring5.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MailTemplateRendererBenchmark {
+
+    private static final String LINK = "/study/spring";
+
+    private static final String LINK_NAME = "Spring 스터디";
+
+    private static final String MESSAGE = "새로운 스터디가 생겼습니다";
+
+    private TemplateEngine templateEngine;
+
+    private MailTemplateRenderer mailTemplateRenderer;
+
+    private String[] nicknames;
+
+    private int index;
+
+    @Setup
+    public void setup() {
+        ClassLoaderTemplateResolver templateResolver = new ClassLoaderTemplateResolver();
+        templateResolver.setPrefix("templates/");
+        templateResolver.setSuffix(".html");
+        templateResolver.setTemplateMode(TemplateMode.HTML);
+        templateResolver.setCharacterEncoding("UTF-8");
+        templateResolver.setCacheable(true);
+        templateEngine = new SpringTemplateEngine();
+        templateEngine.setTemplateResolver(templateResolver);
+
+        AppProperties appProperties = new AppProperties();
+        appProperties.setHost("http://localhost:8080");
+        mailTemplateRenderer = new MailTemplateRenderer(templateEngine, appProperties);
+
+        nicknames = new String[1024];
+        for (int i = 0; i < nicknames.length; i++) {
+            nicknames[i] = "member" + i;
+        }
+    }
+
+    @Benchmark
+    public String processPerRecipient() {
+        Context context = new Context();
+        context.setVariable("nickname", nextNickname());
+        context.setVariable("link", LINK);
+        context.setVariable("linkName", LINK_NAME);
+        context.setVariable("message", MESSAGE);
+        context.setVariable("host", "http://localhost:8080");
+        return templateEngine.process("mail/simple-link", context);
+    }
+
+    @Benchmark
+    public String preparedTemplate() {
+        return mailTemplateRenderer.simpleLink(LINK, LINK_NAME, MESSAGE).render(nextNickname());
+    }
+
+    private String nextNickname() {
+        return nicknames[index++ & (nicknames.length - 1)];
+    }
+}
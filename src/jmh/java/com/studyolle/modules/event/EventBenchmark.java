@@ -0,0 +1,64 @@
+package com.studyolle.modules.event;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventBenchmark {
+
+    @Param("10000")
+    private int numberOfEnrollments;
+
+    private Event event;
+
+    @Setup
+    public void setup() {
+        event = new Event();
+        event.setId(1L);
+        event.setEventType(EventType.CONFIRMATIVE);
+        event.setLimitOfEnrollments(numberOfEnrollments);
+
+        LocalDateTime enrolledAt = LocalDateTime.now();
+        for (int i = 0; i < numberOfEnrollments; i++) {
+            Enrollment enrollment = new Enrollment();
+            enrollment.setId((long) i);
+            enrollment.setEnrolledAt(enrolledAt.plusSeconds(i));
+            enrollment.setAccepted(i % 2 == 0);
+            event.addEnrollment(enrollment);
+        }
+        event.setAcceptedCount((numberOfEnrollments + 1) / 2);
+    }
+
+    @Benchmark
+    public void renderEnrollmentActions(Blackhole blackhole) {
+        blackhole.consume(event.numberOfRemainSpots());
+        for (Enrollment enrollment : event.getEnrollments()) {
+            blackhole.consume(event.canAccept(enrollment));
+            blackhole.consume(event.canReject(enrollment));
+        }
+    }
+
+    @Benchmark
+    public void renderEnrollmentActionsByScanning(Blackhole blackhole) {
+        blackhole.consume(event.getLimitOfEnrollments() - countAccepted());
+        for (Enrollment enrollment : event.getEnrollments()) {
+            blackhole.consume(event.getEnrollments().contains(enrollment)
+                    && event.getLimitOfEnrollments() > countAccepted()
+                    && !enrollment.isAttended() && !enrollment.isAccepted());
+            blackhole.consume(event.getEnrollments().contains(enrollment)
+                    && !enrollment.isAttended() && enrollment.isAccepted());
+        }
+    }
+
+    private long countAccepted() {
+        return event.getEnrollments().stream().filter(Enrollment::isAccepted).count();
+    }
+}
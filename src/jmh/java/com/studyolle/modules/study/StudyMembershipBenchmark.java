@@ -0,0 +1,85 @@
+package com.studyolle.modules.study;
+
+import com.studyolle.modules.account.Account;
+import com.studyolle.modules.account.AccountPrincipal;
+import com.studyolle.modules.account.UserAccount;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StudyMembershipBenchmark {
+
+    @Param({"100", "10000", "100000"})
+    private int numberOfMembers;
+
+    private Set<Account> managers;
+
+    private Set<Account> members;
+
+    private Account manager;
+
+    private UserAccount member;
+
+    private UserAccount stranger;
+
+    private Study study;
+
+    @Setup(Level.Trial)
+    public void setupAccounts() {
+        manager = account(0L);
+        managers = new HashSet<>();
+        managers.add(manager);
+        members = new HashSet<>();
+        for (long id = 1; id <= numberOfMembers; id++) {
+            members.add(account(id));
+        }
+
+        member = new UserAccount(AccountPrincipal.from(account(numberOfMembers / 2L)));
+        stranger = new UserAccount(AccountPrincipal.from(account(numberOfMembers + 1L)));
+    }
+
+    @Setup(Level.Invocation)
+    public void setupStudy() {
+        study = new Study();
+        study.setId(1L);
+        study.setPublished(true);
+        study.setRecruiting(true);
+        managers.forEach(study::addManager);
+        members.forEach(study::addMember);
+    }
+
+    @Benchmark
+    public void viewStudy(Blackhole blackhole) {
+        blackhole.consume(study.isJoinable(stranger));
+        blackhole.consume(study.isMember(member));
+        blackhole.consume(study.isManager(member));
+        blackhole.consume(study.isManagedBy(manager));
+    }
+
+    @Benchmark
+    public void viewStudyByScanning(Blackhole blackhole) {
+        Account strangerAccount = account(stranger.getId());
+        Account memberAccount = account(member.getId());
+        blackhole.consume(!study.getMembers().contains(strangerAccount) && !study.getManagers().contains(strangerAccount));
+        blackhole.consume(study.getMembers().contains(memberAccount));
+        blackhole.consume(study.getManagers().contains(memberAccount));
+        blackhole.consume(study.getManagers().contains(manager));
+    }
+
+    private static Account account(Long id) {
+        Account account = new Account();
+        account.setId(id);
+        account.setNickname("member" + id);
+        account.setEmail("member" + id + "@email.com");
+        return account;
+    }
+}
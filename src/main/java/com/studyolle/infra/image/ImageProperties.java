@@ -0,0 +1,28 @@
+package com.studyolle.infra.image;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties("app.image")
+public class ImageProperties {
+
+    private Path directory = Paths.get(System.getProperty("java.io.tmpdir"), "studyolle", "images");
+
+    private int thumbnailWidth = 350;
+
+    private DataSize maxSize = DataSize.ofMegabytes(1);
+
+    private int maxWidth = 4096;
+
+    private int maxHeight = 4096;
+
+    private Duration cacheMaxAge = Duration.ofDays(365);
+}
@@ -0,0 +1,185 @@
+package com.studyolle.infra.image;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ImageStore {
+
+    public static final String URL_PREFIX = "/images/uploads/";
+
+    private static final String THUMBNAIL_SUFFIX = "-thumb";
+
+    private static final Map<String, String> EXTENSIONS = Map.of(
+            "data:image/png;base64", "png",
+            "data:image/jpeg;base64", "jpg",
+            "data:image/gif;base64", "gif");
+
+    private static final Pattern FILE_NAME = Pattern.compile("([0-9a-f]{64})(" + THUMBNAIL_SUFFIX + ")?\\.(png|jpg|gif)");
+
+    private final ImageProperties imageProperties;
+
+    @PostConstruct
+    public void createDirectory() throws IOException {
+        Files.createDirectories(imageProperties.getDirectory());
+    }
+
+    public boolean isValid(String image) {
+        if (image == null || image.isBlank() || isStored(image)) {
+            return true;
+        }
+
+        int comma = image.indexOf(',');
+        if (comma < 0 || !EXTENSIONS.containsKey(image.substring(0, comma))
+                || (image.length() - comma - 1) / 4 * 3 > imageProperties.getMaxSize().toBytes()) {
+            return false;
+        }
+
+        try {
+            byte[] bytes = Base64.getDecoder().decode(image.substring(comma + 1));
+            return bytes.length <= imageProperties.getMaxSize().toBytes()
+                    && hasAllowedDimensions(ImageIO.createImageInputStream(new ByteArrayInputStream(bytes)));
+        } catch (IllegalArgumentException | IOException e) {
+            return false;
+        }
+    }
+
+    public String store(String image) {
+        if (image == null || image.isBlank()) {
+            return null;
+        }
+        if (isStored(image)) {
+            return image;
+        }
+
+        int comma = image.indexOf(',');
+        String extension = comma < 0 ? null : EXTENSIONS.get(image.substring(0, comma));
+        if (extension == null) {
+            throw new IllegalArgumentException("지원하지 않는 이미지 형식입니다.");
+        }
+
+        byte[] bytes = Base64.getDecoder().decode(image.substring(comma + 1));
+        String fileName = sha256(bytes) + "." + extension;
+        Path path = imageProperties.getDirectory().resolve(fileName);
+        if (Files.notExists(path)) {
+            try {
+                Path temp = Files.createTempFile(imageProperties.getDirectory(), fileName, ".tmp");
+                Files.write(temp, bytes);
+                Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return URL_PREFIX + fileName;
+    }
+
+    public Path resolve(String fileName) throws IOException {
+        Matcher matcher = FILE_NAME.matcher(fileName);
+        if (!matcher.matches()) {
+            return null;
+        }
+
+        Path path = imageProperties.getDirectory().resolve(fileName);
+        if (Files.exists(path)) {
+            return path;
+        }
+        if (matcher.group(2) == null) {
+            return null;
+        }
+
+        Path original = imageProperties.getDirectory().resolve(matcher.group(1) + "." + matcher.group(3));
+        if (Files.notExists(original)) {
+            return null;
+        }
+        createThumbnail(original, path, matcher.group(3));
+        return path;
+    }
+
+    public static String thumbnailUrlOf(String imageUrl) {
+        if (imageUrl == null || !imageUrl.startsWith(URL_PREFIX)) {
+            return imageUrl;
+        }
+        int dot = imageUrl.lastIndexOf('.');
+        return imageUrl.substring(0, dot) + THUMBNAIL_SUFFIX + imageUrl.substring(dot);
+    }
+
+    private boolean isStored(String image) {
+        return image.startsWith(URL_PREFIX) && FILE_NAME.matcher(image.substring(URL_PREFIX.length())).matches();
+    }
+
+    private boolean hasAllowedDimensions(ImageInputStream input) throws IOException {
+        if (input == null) {
+            return false;
+        }
+
+        try (input) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return false;
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                return reader.getWidth(0) <= imageProperties.getMaxWidth()
+                        && reader.getHeight(0) <= imageProperties.getMaxHeight();
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private void createThumbnail(Path original, Path thumbnail, String format) throws IOException {
+        BufferedImage source = hasAllowedDimensions(ImageIO.createImageInputStream(original.toFile()))
+                ? ImageIO.read(original.toFile()) : null;
+        int width = imageProperties.getThumbnailWidth();
+        Path temp = Files.createTempFile(imageProperties.getDirectory(), thumbnail.getFileName().toString(), ".tmp");
+        if (source == null || source.getWidth() <= width) {
+            Files.copy(original, temp, StandardCopyOption.REPLACE_EXISTING);
+        } else {
+            int height = Math.max(1, source.getHeight() * width / source.getWidth());
+            BufferedImage scaled = new BufferedImage(width, height,
+                    "jpg".equals(format) ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB);
+            Graphics2D graphics = scaled.createGraphics();
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.drawImage(source, 0, 0, width, height, null);
+            graphics.dispose();
+            ImageIO.write(scaled, format, temp.toFile());
+        }
+        Files.move(temp, thumbnail, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        log.info("created thumbnail {}", thumbnail.getFileName());
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            return String.format("%064x", new BigInteger(1, MessageDigest.getInstance("SHA-256").digest(bytes)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
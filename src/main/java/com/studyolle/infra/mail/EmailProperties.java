@@ -0,0 +1,23 @@
+package com.studyolle.infra.mail;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties("app.mail")
+public class EmailProperties {
+
+    private int queueCapacity = 1000;
+
+    private int senderThreads = 2;
+
+    private int batchSize = 50;
+
+    private int maxAttempts = 3;
+
+    private Duration retryBackoff = Duration.ofSeconds(1);
+}
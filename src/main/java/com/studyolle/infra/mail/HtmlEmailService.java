@@ -1,36 +1,257 @@
 package com.studyolle.infra.mail;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Profile;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import javax.mail.MessagingException;
 import javax.mail.internet.MimeMessage;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Slf4j
 @Profile("dev")
 @Component
-@RequiredArgsConstructor
 public class HtmlEmailService implements EmailService {
 
     private final JavaMailSender javaMailSender;
 
+    private final EmailProperties emailProperties;
+
+    private final BlockingQueue<PendingEmail> queue;
+
+    private final Set<PendingEmail> pendingRetries = ConcurrentHashMap.newKeySet();
+
+    private final AtomicLong sentCount = new AtomicLong();
+
+    private final AtomicLong retriedCount = new AtomicLong();
+
+    private final AtomicLong failedCount = new AtomicLong();
+
+    private final AtomicLong rejectedCount = new AtomicLong();
+
+    private ExecutorService senders;
+
+    private ScheduledExecutorService retryScheduler;
+
+    private volatile boolean running;
+
+    public HtmlEmailService(JavaMailSender javaMailSender, EmailProperties emailProperties) {
+        this.javaMailSender = javaMailSender;
+        this.emailProperties = emailProperties;
+        this.queue = new LinkedBlockingQueue<>(emailProperties.getQueueCapacity());
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        senders = Executors.newFixedThreadPool(emailProperties.getSenderThreads(), new CustomizableThreadFactory("MailSender-"));
+        retryScheduler = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("MailRetry-"));
+        for (int i = 0; i < emailProperties.getSenderThreads(); i++) {
+            senders.execute(this::sendLoop);
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        retryScheduler.shutdownNow();
+        drainPendingRetries();
+        senders.shutdown();
+        if (!senders.awaitTermination(30, TimeUnit.SECONDS)) {
+            log.warn("{} emails were not sent before shutdown", queue.size());
+            senders.shutdownNow();
+        }
+    }
+
     @Override
     public void sendEmail(EmailMessage emailMessage) {
-        MimeMessage mimeMessage = javaMailSender.createMimeMessage();
+        PendingEmail pendingEmail = new PendingEmail(emailMessage, 1);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    accept(pendingEmail);
+                }
+            });
+        } else {
+            accept(pendingEmail);
+        }
+    }
+
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    public int getRemainingCapacity() {
+        return queue.remainingCapacity();
+    }
+
+    public long getSentCount() {
+        return sentCount.get();
+    }
+
+    public long getRetriedCount() {
+        return retriedCount.get();
+    }
+
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    private void accept(PendingEmail pendingEmail) {
+        if (!enqueue(pendingEmail)) {
+            rejectedCount.incrementAndGet();
+        }
+    }
+
+    private boolean enqueue(PendingEmail pendingEmail) {
         try {
-            MimeMessageHelper mimeMessageHelper = new MimeMessageHelper(mimeMessage, false, "UTF-8");
-            mimeMessageHelper.setTo(emailMessage.getTo());
-            mimeMessageHelper.setSubject(emailMessage.getSubject());
-            mimeMessageHelper.setText(emailMessage.getMessage(), true);
-            javaMailSender.send(mimeMessage);
-            log.info("sent email : {}", emailMessage.getMessage());
-        } catch (MessagingException e) {
-            log.error("failed to send email", e);
-            throw new RuntimeException(e);
+            while (running) {
+                if (queue.offer(pendingEmail, 1, TimeUnit.SECONDS)) {
+                    return true;
+                }
+                log.warn("mail queue is full, waiting to queue email to {}", pendingEmail.emailMessage.getTo());
+            }
+            log.error("mail sender is stopped, dropped email to {}", pendingEmail.emailMessage.getTo());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("interrupted while queueing email to {}", pendingEmail.emailMessage.getTo());
+        }
+        return false;
+    }
+
+    private void drainPendingRetries() {
+        for (PendingEmail pendingEmail : pendingRetries) {
+            if (pendingRetries.remove(pendingEmail) && !queue.offer(pendingEmail)) {
+                failedCount.incrementAndGet();
+                log.warn("mail queue is full, dropped retry of email to {} on shutdown", pendingEmail.emailMessage.getTo());
+            }
+        }
+    }
+
+    private void sendLoop() {
+        List<PendingEmail> batch = new ArrayList<>(emailProperties.getBatchSize());
+        while (!senders.isShutdown() || !queue.isEmpty()) {
+            try {
+                PendingEmail first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, emailProperties.getBatchSize() - 1);
+                sendBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("unexpected error while sending emails", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void sendBatch(List<PendingEmail> batch) {
+        Map<MimeMessage, PendingEmail> mimeMessages = new LinkedHashMap<>();
+        for (PendingEmail pendingEmail : batch) {
+            try {
+                mimeMessages.put(createMimeMessage(pendingEmail.emailMessage), pendingEmail);
+            } catch (MessagingException e) {
+                failedCount.incrementAndGet();
+                log.error("failed to create email to {}", pendingEmail.emailMessage.getTo(), e);
+            }
+        }
+        if (mimeMessages.isEmpty()) {
+            return;
+        }
+
+        try {
+            javaMailSender.send(mimeMessages.keySet().toArray(new MimeMessage[0]));
+            sentCount.addAndGet(mimeMessages.size());
+            log.info("sent {} emails", mimeMessages.size());
+        } catch (MailSendException e) {
+            Collection<Object> failedMessages = e.getFailedMessages().keySet();
+            if (failedMessages.isEmpty()) {
+                retry(mimeMessages.values(), e);
+                return;
+            }
+            sentCount.addAndGet(mimeMessages.size() - failedMessages.size());
+            List<PendingEmail> failed = new ArrayList<>();
+            failedMessages.forEach(failedMessage -> failed.add(mimeMessages.get(failedMessage)));
+            retry(failed, e);
+        } catch (MailException e) {
+            retry(mimeMessages.values(), e);
+        }
+    }
+
+    private void retry(Collection<PendingEmail> failed, MailException cause) {
+        for (PendingEmail pendingEmail : failed) {
+            if (pendingEmail == null) {
+                continue;
+            }
+            if (pendingEmail.attempt >= emailProperties.getMaxAttempts() || !running) {
+                failedCount.incrementAndGet();
+                log.error("failed to send email to {} after {} attempts", pendingEmail.emailMessage.getTo(), pendingEmail.attempt, cause);
+                continue;
+            }
+
+            long backoff = emailProperties.getRetryBackoff().toMillis() << (pendingEmail.attempt - 1);
+            PendingEmail nextAttempt = new PendingEmail(pendingEmail.emailMessage, pendingEmail.attempt + 1);
+            pendingRetries.add(nextAttempt);
+            retriedCount.incrementAndGet();
+            try {
+                retryScheduler.schedule(() -> {
+                    if (pendingRetries.remove(nextAttempt) && !enqueue(nextAttempt)) {
+                        failedCount.incrementAndGet();
+                    }
+                }, backoff, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                if (pendingRetries.remove(nextAttempt)) {
+                    failedCount.incrementAndGet();
+                    log.error("failed to schedule retry of email to {} during shutdown", pendingEmail.emailMessage.getTo(), cause);
+                }
+            }
+        }
+    }
+
+    private MimeMessage createMimeMessage(EmailMessage emailMessage) throws MessagingException {
+        MimeMessage mimeMessage = javaMailSender.createMimeMessage();
+        MimeMessageHelper mimeMessageHelper = new MimeMessageHelper(mimeMessage, false, "UTF-8");
+        mimeMessageHelper.setTo(emailMessage.getTo());
+        mimeMessageHelper.setSubject(emailMessage.getSubject());
+        mimeMessageHelper.setText(emailMessage.getMessage(), true);
+        return mimeMessage;
+    }
+
+    private static class PendingEmail {
+
+        private final EmailMessage emailMessage;
+
+        private final int attempt;
+
+        private PendingEmail(EmailMessage emailMessage, int attempt) {
+            this.emailMessage = emailMessage;
+            this.attempt = attempt;
         }
     }
 }
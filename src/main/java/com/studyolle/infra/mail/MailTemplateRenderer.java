@@ -0,0 +1,66 @@
+package com.studyolle.infra.mail;
+
+import com.studyolle.infra.config.AppProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.Context;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+@Component
+@RequiredArgsConstructor
+public class MailTemplateRenderer {
+
+    private static final String SIMPLE_LINK = "mail/simple-link";
+
+    private static final int MAX_CACHED_TEMPLATES = 256;
+
+    private static final String NICKNAME_SLOT = "__nickname_" + UUID.randomUUID().toString().replace("-", "") + "__";
+
+    private final TemplateEngine templateEngine;
+
+    private final AppProperties appProperties;
+
+    private final Map<List<String>, SimpleLinkMailTemplate> simpleLinkTemplates = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<List<String>, SimpleLinkMailTemplate> eldest) {
+                    return size() > MAX_CACHED_TEMPLATES;
+                }
+            });
+
+    public SimpleLinkMailTemplate simpleLink(String link, String linkName, String message) {
+        List<String> key = List.of(link, linkName, message);
+        SimpleLinkMailTemplate template = simpleLinkTemplates.get(key);
+        if (template == null) {
+            template = prepareSimpleLink(link, linkName, message);
+            simpleLinkTemplates.put(key, template);
+        }
+        return template;
+    }
+
+    public String renderSimpleLink(String nickname, String link, String linkName, String message) {
+        return templateEngine.process(SIMPLE_LINK, createContext(nickname, link, linkName, message));
+    }
+
+    private SimpleLinkMailTemplate prepareSimpleLink(String link, String linkName, String message) {
+        String rendered = templateEngine.process(SIMPLE_LINK, createContext(NICKNAME_SLOT, link, linkName, message));
+        return new SimpleLinkMailTemplate(rendered.split(Pattern.quote(NICKNAME_SLOT), -1));
+    }
+
+    private Context createContext(String nickname, String link, String linkName, String message) {
+        Context context = new Context();
+        context.setVariable("nickname", nickname);
+        context.setVariable("link", link);
+        context.setVariable("linkName", linkName);
+        context.setVariable("message", message);
+        context.setVariable("host", appProperties.getHost());
+        return context;
+    }
+}
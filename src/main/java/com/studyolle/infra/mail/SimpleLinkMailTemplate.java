@@ -0,0 +1,30 @@
+package com.studyolle.infra.mail;
+
+import org.springframework.web.util.HtmlUtils;
+
+public class SimpleLinkMailTemplate {
+
+    private final String[] segments;
+
+    SimpleLinkMailTemplate(String[] segments) {
+        this.segments = segments;
+    }
+
+    public String render(String nickname) {
+        String escapedNickname = HtmlUtils.htmlEscape(nickname, "UTF-8");
+        StringBuilder message = new StringBuilder(length() + escapedNickname.length() * (segments.length - 1));
+        message.append(segments[0]);
+        for (int i = 1; i < segments.length; i++) {
+            message.append(escapedNickname).append(segments[i]);
+        }
+        return message.toString();
+    }
+
+    private int length() {
+        int length = 0;
+        for (String segment : segments) {
+            length += segment.length();
+        }
+        return length;
+    }
+}
@@ -0,0 +1,74 @@
+package com.studyolle.infra.outbox;
+
+import lombok.*;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+@Entity
+@Table(indexes = @Index(columnList = "availableDateTime"))
+@Getter @Setter
+@Builder @NoArgsConstructor @AllArgsConstructor
+public class OutboxEvent {
+
+    @Id @GeneratedValue(generator = "outbox_event_id")
+    @GenericGenerator(name = "outbox_event_id", strategy = "org.hibernate.id.enhanced.SequenceStyleGenerator", parameters = {
+            @Parameter(name = "sequence_name", value = "hibernate_sequence"),
+            @Parameter(name = "increment_size", value = "50"),
+            @Parameter(name = "optimizer", value = "pooled-lo")
+    })
+    private Long id;
+
+    @Column(nullable = false)
+    private String eventType;
+
+    @Column(nullable = false)
+    private Long aggregateId;
+
+    @Column(nullable = false)
+    private String handlerName;
+
+    private String message;
+
+    private LocalDateTime createdDateTime;
+
+    private LocalDateTime availableDateTime;
+
+    private int attempts;
+
+    private String leaseToken;
+
+    private Long resumeAfter;
+
+    @Transient
+    private boolean continued;
+
+    public void claim(LocalDateTime leasedUntil, String leaseToken) {
+        this.attempts++;
+        this.availableDateTime = leasedUntil;
+        this.leaseToken = leaseToken;
+    }
+
+    public void continueAfter(Long resumeAfter) {
+        this.resumeAfter = resumeAfter;
+        this.continued = true;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || Hibernate.getClass(this) != Hibernate.getClass(o)) return false;
+        OutboxEvent outboxEvent = (OutboxEvent) o;
+
+        return Objects.equals(id, outboxEvent.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return 1404218623;
+    }
+}
@@ -0,0 +1,136 @@
+package com.studyolle.infra.outbox;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+public class OutboxEventDispatcher {
+
+    private final OutboxEventRepository outboxEventRepository;
+
+    private final Map<String, OutboxEventHandler> outboxEventHandlers;
+
+    private final OutboxProperties outboxProperties;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final ScheduledExecutorService leaseRenewer;
+
+    public OutboxEventDispatcher(OutboxEventRepository outboxEventRepository, List<OutboxEventHandler> outboxEventHandlers,
+                                 OutboxProperties outboxProperties, PlatformTransactionManager transactionManager) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.outboxEventHandlers = outboxEventHandlers.stream()
+                .collect(Collectors.toMap(OutboxEventHandler::getName, Function.identity()));
+        this.outboxProperties = outboxProperties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("OutboxLease-");
+        threadFactory.setDaemon(true);
+        this.leaseRenewer = Executors.newSingleThreadScheduledExecutor(threadFactory);
+    }
+
+    @PreDestroy
+    public void stop() {
+        leaseRenewer.shutdownNow();
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.poll-interval:1000}")
+    public void dispatch() {
+        List<OutboxEvent> outboxEvents;
+        do {
+            outboxEvents = transactionTemplate.execute(status -> claim());
+            outboxEvents.forEach(this::dispatch);
+        } while (outboxEvents.size() == outboxProperties.getBatchSize()
+                || outboxEvents.stream().anyMatch(OutboxEvent::isContinued));
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.purge-interval:3600000}")
+    public void purgeParkedEvents() {
+        int purged = outboxEventRepository.deleteParked(outboxProperties.getMaxAttempts(),
+                LocalDateTime.now().minus(outboxProperties.getParkedRetention()));
+        if (purged > 0) {
+            log.warn("purged {} outbox events that failed {} times", purged, outboxProperties.getMaxAttempts());
+        }
+    }
+
+    private List<OutboxEvent> claim() {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEvent> outboxEvents = outboxEventRepository.findByAvailableDateTimeLessThanEqualAndAttemptsLessThanOrderByIdAsc(
+                now, outboxProperties.getMaxAttempts(), PageRequest.of(0, outboxProperties.getBatchSize()));
+        outboxEvents.forEach(outboxEvent ->
+                outboxEvent.claim(now.plus(outboxProperties.getLeaseDuration()), UUID.randomUUID().toString()));
+        return outboxEvents;
+    }
+
+    private void dispatch(OutboxEvent outboxEvent) {
+        try {
+            handleUnderLease(outboxEvent);
+        } catch (RuntimeException e) {
+            if (outboxEvent.getAttempts() >= outboxProperties.getMaxAttempts()) {
+                log.error("parked {} #{} in {} after {} attempts", outboxEvent.getEventType(),
+                        outboxEvent.getAggregateId(), outboxEvent.getHandlerName(), outboxEvent.getAttempts(), e);
+                return;
+            }
+
+            outboxEventRepository.retryAfter(outboxEvent.getId(), outboxEvent.getLeaseToken(), LocalDateTime.now()
+                    .plus(outboxProperties.getRetryBackoff().multipliedBy(1L << (outboxEvent.getAttempts() - 1))));
+            log.error("failed to dispatch {} #{} in {} (attempt {})", outboxEvent.getEventType(),
+                    outboxEvent.getAggregateId(), outboxEvent.getHandlerName(), outboxEvent.getAttempts(), e);
+        }
+    }
+
+    private void handleUnderLease(OutboxEvent outboxEvent) {
+        long renewInterval = outboxProperties.getLeaseDuration().toMillis() / 3;
+        ScheduledFuture<?> leaseRenewal = leaseRenewer.scheduleAtFixedRate(() -> renewLease(outboxEvent),
+                renewInterval, renewInterval, TimeUnit.MILLISECONDS);
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                handle(outboxEvent);
+                int updated = outboxEvent.isContinued()
+                        ? outboxEventRepository.checkpoint(outboxEvent.getId(), outboxEvent.getLeaseToken(),
+                                outboxEvent.getResumeAfter(), LocalDateTime.now())
+                        : outboxEventRepository.deleteDispatched(outboxEvent.getId(), outboxEvent.getLeaseToken());
+                if (updated == 0) {
+                    throw new IllegalStateException("lost the lease on " + outboxEvent.getEventType() + " #"
+                            + outboxEvent.getAggregateId() + " while handling it in " + outboxEvent.getHandlerName());
+                }
+            });
+        } finally {
+            leaseRenewal.cancel(false);
+        }
+    }
+
+    private void handle(OutboxEvent outboxEvent) {
+        OutboxEventHandler handler = outboxEventHandlers.get(outboxEvent.getHandlerName());
+        if (handler == null) {
+            throw new IllegalStateException("no outbox event handler named " + outboxEvent.getHandlerName());
+        }
+        handler.handle(outboxEvent);
+    }
+
+    private void renewLease(OutboxEvent outboxEvent) {
+        try {
+            outboxEventRepository.renewLease(outboxEvent.getId(), outboxEvent.getLeaseToken(),
+                    LocalDateTime.now().plus(outboxProperties.getLeaseDuration()));
+        } catch (RuntimeException e) {
+            log.error("failed to renew the lease on {} #{}", outboxEvent.getEventType(), outboxEvent.getAggregateId(), e);
+        }
+    }
+}
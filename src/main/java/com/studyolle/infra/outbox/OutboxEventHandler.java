@@ -0,0 +1,14 @@
+package com.studyolle.infra.outbox;
+
+import org.springframework.util.ClassUtils;
+
+public interface OutboxEventHandler {
+
+    boolean supports(String eventType);
+
+    void handle(OutboxEvent outboxEvent);
+
+    default String getName() {
+        return ClassUtils.getUserClass(this).getSimpleName();
+    }
+}
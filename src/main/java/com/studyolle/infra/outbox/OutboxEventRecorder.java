@@ -0,0 +1,36 @@
+package com.studyolle.infra.outbox;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class OutboxEventRecorder {
+
+    private final OutboxEventRepository outboxEventRepository;
+
+    private final List<OutboxEventHandler> outboxEventHandlers;
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(OutboxMessage outboxMessage) {
+        String eventType = outboxMessage.getClass().getSimpleName();
+        LocalDateTime now = LocalDateTime.now();
+        outboxEventHandlers.stream()
+                .filter(handler -> handler.supports(eventType))
+                .forEach(handler -> outboxEventRepository.save(OutboxEvent.builder()
+                        .eventType(eventType)
+                        .aggregateId(outboxMessage.getAggregateId())
+                        .handlerName(handler.getName())
+                        .message(outboxMessage.getMessage())
+                        .createdDateTime(now)
+                        .availableDateTime(now)
+                        .build()));
+    }
+}
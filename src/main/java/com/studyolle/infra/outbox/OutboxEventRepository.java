@@ -0,0 +1,50 @@
+package com.studyolle.infra.outbox;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Transactional(readOnly = true)
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "javax.persistence.lock.timeout", value = "-2"))
+    List<OutboxEvent> findByAvailableDateTimeLessThanEqualAndAttemptsLessThanOrderByIdAsc(LocalDateTime now, int maxAttempts, Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("delete from OutboxEvent e where e.id = :id and e.leaseToken = :leaseToken")
+    int deleteDispatched(@Param("id") Long id, @Param("leaseToken") String leaseToken);
+
+    @Transactional
+    @Modifying
+    @Query("update OutboxEvent e set e.resumeAfter = :resumeAfter, e.attempts = 0, e.availableDateTime = :availableDateTime, " +
+            "e.leaseToken = null where e.id = :id and e.leaseToken = :leaseToken")
+    int checkpoint(@Param("id") Long id, @Param("leaseToken") String leaseToken,
+                   @Param("resumeAfter") Long resumeAfter, @Param("availableDateTime") LocalDateTime availableDateTime);
+
+    @Transactional
+    @Modifying
+    @Query("update OutboxEvent e set e.availableDateTime = :availableDateTime where e.id = :id and e.leaseToken = :leaseToken")
+    int retryAfter(@Param("id") Long id, @Param("leaseToken") String leaseToken, @Param("availableDateTime") LocalDateTime availableDateTime);
+
+    @Transactional
+    @Modifying
+    @Query("update OutboxEvent e set e.availableDateTime = :leasedUntil where e.id = :id and e.leaseToken = :leaseToken")
+    int renewLease(@Param("id") Long id, @Param("leaseToken") String leaseToken, @Param("leasedUntil") LocalDateTime leasedUntil);
+
+    @Transactional
+    @Modifying
+    @Query("delete from OutboxEvent e where e.attempts >= :maxAttempts and e.createdDateTime < :createdBefore")
+    int deleteParked(@Param("maxAttempts") int maxAttempts, @Param("createdBefore") LocalDateTime createdBefore);
+}
@@ -0,0 +1,8 @@
+package com.studyolle.infra.outbox;
+
+public interface OutboxMessage {
+
+    Long getAggregateId();
+
+    String getMessage();
+}
@@ -0,0 +1,23 @@
+package com.studyolle.infra.outbox;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties("app.outbox")
+public class OutboxProperties {
+
+    private int batchSize = 50;
+
+    private int maxAttempts = 5;
+
+    private Duration retryBackoff = Duration.ofSeconds(5);
+
+    private Duration leaseDuration = Duration.ofMinutes(5);
+
+    private Duration parkedRetention = Duration.ofDays(7);
+}
@@ -0,0 +1,41 @@
+package com.studyolle.infra.session;
+
+import org.springframework.core.serializer.DefaultDeserializer;
+import org.springframework.core.serializer.Deserializer;
+import org.springframework.core.serializer.Serializer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+public class CompactSessionSerializer implements Serializer<Object>, Deserializer<Object> {
+
+    private final DefaultDeserializer deserializer;
+
+    public CompactSessionSerializer(ClassLoader classLoader) {
+        this.deserializer = new DefaultDeserializer(classLoader);
+    }
+
+    @Override
+    public void serialize(Object object, OutputStream outputStream) throws IOException {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            DeflaterOutputStream deflaterOutputStream = new DeflaterOutputStream(outputStream, deflater);
+            ObjectOutputStream objectOutputStream = new ObjectOutputStream(deflaterOutputStream);
+            objectOutputStream.writeObject(object);
+            objectOutputStream.flush();
+            deflaterOutputStream.finish();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    @Override
+    public Object deserialize(InputStream inputStream) throws IOException {
+        return deserializer.deserialize(new InflaterInputStream(inputStream));
+    }
+}
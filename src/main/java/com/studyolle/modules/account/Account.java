@@ -45,7 +45,6 @@ public class Account {
 
     private String location;
 
-    @Lob @Basic(fetch = FetchType.EAGER)
     private String profileImage;
 
     private boolean studyCreatedByEmail;
@@ -60,6 +59,9 @@ public class Account {
 
     private boolean studyUpdatedByWeb = true;
 
+    @Column(updatable = false)
+    private long credentialVersion;
+
     @ManyToMany
     private Set<Tag> tags = new HashSet<>();
 
@@ -0,0 +1,45 @@
+package com.studyolle.modules.account;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class AccountPrincipal {
+
+    private final Long id;
+
+    private final String email;
+
+    private final String nickname;
+
+    private final String password;
+
+    private final boolean studyCreatedByEmail;
+
+    private final boolean studyCreatedByWeb;
+
+    private final boolean studyEnrollmentResultByEmail;
+
+    private final boolean studyEnrollmentResultByWeb;
+
+    private final boolean studyUpdatedByEmail;
+
+    private final boolean studyUpdatedByWeb;
+
+    private final long credentialVersion;
+
+    public static AccountPrincipal from(Account account) {
+        return new AccountPrincipal(account.getId(), account.getEmail(), account.getNickname(), account.getPassword(),
+                account.isStudyCreatedByEmail(), account.isStudyCreatedByWeb(),
+                account.isStudyEnrollmentResultByEmail(), account.isStudyEnrollmentResultByWeb(),
+                account.isStudyUpdatedByEmail(), account.isStudyUpdatedByWeb(), account.getCredentialVersion());
+    }
+
+    public AccountPrincipal withoutPassword() {
+        return new AccountPrincipal(id, email, nickname, null,
+                studyCreatedByEmail, studyCreatedByWeb,
+                studyEnrollmentResultByEmail, studyEnrollmentResultByWeb,
+                studyUpdatedByEmail, studyUpdatedByWeb, credentialVersion);
+    }
+}
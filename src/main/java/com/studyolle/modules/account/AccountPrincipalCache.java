@@ -0,0 +1,75 @@
+package com.studyolle.modules.account;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+@RequiredArgsConstructor
+public class AccountPrincipalCache {
+
+    static final int MAXIMUM_SIZE = 10_000;
+
+    static final Duration TIME_TO_LIVE = Duration.ofMinutes(5);
+
+    private final AccountRepository accountRepository;
+    private final Clock clock;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    public AccountPrincipal get(String emailOrNickname) {
+        Instant now = clock.instant();
+        Entry entry = entries.get(emailOrNickname);
+        if (entry != null && entry.expiresAt.isAfter(now) && isCurrent(entry.principal)) {
+            return entry.principal;
+        }
+
+        AccountPrincipal principal = accountRepository.findPrincipalByEmailOrNickname(emailOrNickname);
+        if (principal == null) {
+            entries.remove(emailOrNickname);
+        } else {
+            put(emailOrNickname, new Entry(principal, now.plus(TIME_TO_LIVE)));
+        }
+        return principal;
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private boolean isCurrent(AccountPrincipal principal) {
+        Long credentialVersion = accountRepository.findCredentialVersionById(principal.getId());
+        return credentialVersion != null && credentialVersion == principal.getCredentialVersion();
+    }
+
+    private void put(String emailOrNickname, Entry entry) {
+        if (entries.size() >= MAXIMUM_SIZE && !entries.containsKey(emailOrNickname)) {
+            Instant now = clock.instant();
+            entries.values().removeIf(cached -> !cached.expiresAt.isAfter(now));
+            Iterator<String> keys = entries.keySet().iterator();
+            while (entries.size() >= MAXIMUM_SIZE && keys.hasNext()) {
+                keys.next();
+                keys.remove();
+            }
+        }
+        entries.put(emailOrNickname, entry);
+    }
+
+    private static class Entry {
+
+        private final AccountPrincipal principal;
+
+        private final Instant expiresAt;
+
+        private Entry(AccountPrincipal principal, Instant expiresAt) {
+            this.principal = principal;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
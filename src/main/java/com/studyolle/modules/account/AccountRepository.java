@@ -2,11 +2,16 @@ package com.studyolle.modules.account;
 
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
+import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @Transactional(readOnly = true)
-public interface AccountRepository extends JpaRepository<Account, Long>, QuerydslPredicateExecutor<Account> {
+public interface AccountRepository extends JpaRepository<Account, Long>, QuerydslPredicateExecutor<Account>, AccountRepositoryExtension {
 
     boolean existsByEmail(String email);
 
@@ -16,6 +21,16 @@ public interface AccountRepository extends JpaRepository<Account, Long>, Queryds
 
     Account findByNickname(String nickname);
 
+    List<Account> findByProfileImageStartingWith(String prefix);
+
     @EntityGraph(attributePaths = {"tags", "zones"})
     Account findAccountWithTagsAndZonesById(Long id);
+
+    @Query("select a.credentialVersion from Account a where a.id = :id")
+    Long findCredentialVersionById(@Param("id") Long id);
+
+    @Transactional
+    @Modifying
+    @Query("update Account a set a.credentialVersion = a.credentialVersion + 1 where a.id = :id")
+    int incrementCredentialVersion(@Param("id") Long id);
 }
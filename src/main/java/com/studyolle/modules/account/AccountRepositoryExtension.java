@@ -0,0 +1,16 @@
+package com.studyolle.modules.account;
+
+import com.studyolle.modules.tag.Tag;
+import com.studyolle.modules.zone.Zone;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Set;
+
+@Transactional(readOnly = true)
+public interface AccountRepositoryExtension {
+
+    List<StudyCreatedRecipient> findStudyCreatedRecipients(Set<Tag> tags, Set<Zone> zones, Long lastAccountId, int size);
+
+    AccountPrincipal findPrincipalByEmailOrNickname(String emailOrNickname);
+}
@@ -0,0 +1,49 @@
+package com.studyolle.modules.account;
+
+import com.querydsl.core.types.Projections;
+import com.studyolle.modules.tag.Tag;
+import com.studyolle.modules.zone.Zone;
+import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+public class AccountRepositoryExtensionImpl extends QuerydslRepositorySupport implements AccountRepositoryExtension {
+
+    public AccountRepositoryExtensionImpl() {
+        super(Account.class);
+    }
+
+    @Override
+    public List<StudyCreatedRecipient> findStudyCreatedRecipients(Set<Tag> tags, Set<Zone> zones, Long lastAccountId, int size) {
+        if (tags.isEmpty() || zones.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        QAccount account = QAccount.account;
+        return from(account)
+                .select(Projections.constructor(StudyCreatedRecipient.class,
+                        account.id, account.email, account.nickname,
+                        account.studyCreatedByEmail, account.studyCreatedByWeb))
+                .where(AccountPredicates.findByTagsAndZones(tags, zones),
+                        lastAccountId == null ? null : account.id.gt(lastAccountId),
+                        account.studyCreatedByEmail.isTrue().or(account.studyCreatedByWeb.isTrue()))
+                .orderBy(account.id.asc())
+                .limit(size)
+                .fetch();
+    }
+
+    @Override
+    public AccountPrincipal findPrincipalByEmailOrNickname(String emailOrNickname) {
+        QAccount account = QAccount.account;
+        return from(account)
+                .select(Projections.constructor(AccountPrincipal.class,
+                        account.id, account.email, account.nickname, account.password,
+                        account.studyCreatedByEmail, account.studyCreatedByWeb,
+                        account.studyEnrollmentResultByEmail, account.studyEnrollmentResultByWeb,
+                        account.studyUpdatedByEmail, account.studyUpdatedByWeb, account.credentialVersion))
+                .where(account.email.eq(emailOrNickname).or(account.nickname.eq(emailOrNickname)))
+                .fetchFirst();
+    }
+}
@@ -1,18 +1,22 @@
 package com.studyolle.modules.account;
 
+import com.studyolle.modules.account.event.AccountInterestsChangedEvent;
 import com.studyolle.modules.account.form.SignUpForm;
-import com.studyolle.infra.config.AppProperties;
 import com.studyolle.modules.tag.Tag;
 import com.studyolle.modules.zone.Zone;
+import com.studyolle.infra.image.ImageStore;
 import com.studyolle.infra.mail.EmailMessage;
 import com.studyolle.infra.mail.EmailService;
+import com.studyolle.infra.mail.MailTemplateRenderer;
 import com.studyolle.modules.account.form.Notifications;
 import com.studyolle.modules.account.form.Profile;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.modelmapper.ModelMapper;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -20,11 +24,7 @@ import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.thymeleaf.TemplateEngine;
-import org.thymeleaf.context.Context;
 
-import java.util.List;
-import java.util.Optional;
 import java.util.Set;
 
 @Slf4j
@@ -37,8 +37,10 @@ public class AccountService implements UserDetailsService {
     private final EmailService emailService;
     private final PasswordEncoder passwordEncoder;
     private final ModelMapper modelMapper;
-    private final TemplateEngine templateEngine;
-    private final AppProperties appProperties;
+    private final MailTemplateRenderer mailTemplateRenderer;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ImageStore imageStore;
+    private final AccountPrincipalCache accountPrincipalCache;
 
     public Account processNewAccount(SignUpForm signUpForm) {
         Account newAccount = saveNewAccount(signUpForm);
@@ -54,13 +56,9 @@ public class AccountService implements UserDetailsService {
     }
 
     public void sendSignUpConfirmEmail(Account newAccount) {
-        Context context = new Context();
-        context.setVariable("link", "/check-email-token?token=" + newAccount.getEmailCheckToken() + "&email=" + newAccount.getEmail());
-        context.setVariable("nickname", newAccount.getNickname());
-        context.setVariable("linkName", "이메일 인증하기");
-        context.setVariable("message", "스터디올래 서비스를 사용하려면 링크를 클릭하세요.");
-        context.setVariable("host", appProperties.getHost());
-        String message = templateEngine.process("mail/simple-link", context);
+        String message = mailTemplateRenderer.renderSimpleLink(newAccount.getNickname(),
+                "/check-email-token?token=" + newAccount.getEmailCheckToken() + "&email=" + newAccount.getEmail(),
+                "이메일 인증하기", "스터디올래 서비스를 사용하려면 링크를 클릭하세요.");
 
         EmailMessage emailMessage = EmailMessage.builder()
                 .to(newAccount.getEmail())
@@ -71,24 +69,25 @@ public class AccountService implements UserDetailsService {
     }
 
     public void login(Account account) {
+        UserAccount userAccount = new UserAccount(AccountPrincipal.from(account).withoutPassword());
         UsernamePasswordAuthenticationToken token =
-                new UsernamePasswordAuthenticationToken(new UserAccount(account), account.getPassword(), List.of(new SimpleGrantedAuthority("ROLE_USER")));
+                new UsernamePasswordAuthenticationToken(userAccount, null, userAccount.getAuthorities());
         SecurityContextHolder.getContext().setAuthentication(token);
     }
 
     @Transactional(readOnly = true)
     @Override
     public UserDetails loadUserByUsername(String emailOfNickname) throws UsernameNotFoundException {
-        Account account = accountRepository.findByEmail(emailOfNickname);
-        if(account == null) {
-            account = accountRepository.findByNickname(emailOfNickname);
-        }
-
-        if(account == null) {
+        AccountPrincipal principal = accountPrincipalCache.get(emailOfNickname);
+        if(principal == null) {
             throw new UsernameNotFoundException(emailOfNickname);
         }
 
-        return new UserAccount(account);
+        return new UserAccount(principal);
+    }
+
+    public Account getCurrentAccount(UserAccount userAccount) {
+        return accountRepository.findById(userAccount.getId()).orElse(null);
     }
 
     public void completeSignUp(Account account) {
@@ -98,33 +97,39 @@ public class AccountService implements UserDetailsService {
 
     public void updateProfile(Account account, Profile profile) {
         modelMapper.map(profile, account);
+        account.setProfileImage(imageStore.store(profile.getProfileImage()));
         accountRepository.save(account);
     }
 
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateProfileImages() {
+        accountRepository.findByProfileImageStartingWith("data:")
+                .forEach(account -> account.setProfileImage(imageStore.store(account.getProfileImage())));
+    }
+
     public void updatePassword(Account account, String newPassword) {
         account.setPassword(passwordEncoder.encode(newPassword));
         accountRepository.save(account);
+        accountRepository.incrementCredentialVersion(account.getId());
     }
 
     public void updateNotifications(Account account, Notifications notifications) {
         modelMapper.map(notifications, account);
         accountRepository.save(account);
+        accountRepository.incrementCredentialVersion(account.getId());
     }
 
     public void updateNickname(Account account, String nickname) {
         account.setNickname(nickname);
         accountRepository.save(account);
+        accountRepository.incrementCredentialVersion(account.getId());
         login(account);
     }
 
     public void sendLoginLink(Account account) {
-        Context context = new Context();
-        context.setVariable("link", "/login-by-email?token=" + account.getEmailCheckToken() + "&email=" + account.getEmail());
-        context.setVariable("nickname", account.getNickname());
-        context.setVariable("linkName", "스터디올래 로그인하기");
-        context.setVariable("message", "로그인하려면 아래 링크를 클릭하세요.");
-        context.setVariable("host", appProperties.getHost());
-        String message = templateEngine.process("mail/simple-link", context);
+        String message = mailTemplateRenderer.renderSimpleLink(account.getNickname(),
+                "/login-by-email?token=" + account.getEmailCheckToken() + "&email=" + account.getEmail(),
+                "스터디올래 로그인하기", "로그인하려면 아래 링크를 클릭하세요.");
 
         EmailMessage emailMessage = EmailMessage.builder()
                 .to(account.getEmail())
@@ -135,33 +140,31 @@ public class AccountService implements UserDetailsService {
     }
 
     public void addTag(Account account, Tag tag) {
-        Optional<Account> byId = accountRepository.findById(account.getId());
-        byId.ifPresent(a -> a.getTags().add(tag));
+        account.getTags().add(tag);
+        eventPublisher.publishEvent(new AccountInterestsChangedEvent(account.getId()));
     }
 
     public Set<Tag> getTags(Account account) {
-        Optional<Account> byId = accountRepository.findById(account.getId());
-        return byId.orElseThrow().getTags();
+        return account.getTags();
     }
 
     public void removeTag(Account account, Tag tag) {
-        Optional<Account> byId = accountRepository.findById(account.getId());
-        byId.ifPresent(a -> a.getTags().remove(tag));
+        account.getTags().remove(tag);
+        eventPublisher.publishEvent(new AccountInterestsChangedEvent(account.getId()));
     }
 
     public Set<Zone> getZones(Account account) {
-        Optional<Account> byId = accountRepository.findById(account.getId());
-        return byId.orElseThrow().getZones();
+        return account.getZones();
     }
 
     public void addZone(Account account, Zone zone) {
-        Optional<Account> byId = accountRepository.findById(account.getId());
-        byId.ifPresent(a -> a.getZones().add(zone));
+        account.getZones().add(zone);
+        eventPublisher.publishEvent(new AccountInterestsChangedEvent(account.getId()));
     }
 
     public void removeZone(Account account, Zone zone) {
-        Optional<Account> byId = accountRepository.findById(account.getId());
-        byId.ifPresent(a -> a.getZones().remove(zone));
+        account.getZones().remove(zone);
+        eventPublisher.publishEvent(new AccountInterestsChangedEvent(account.getId()));
     }
 
     public Account getAccount(String nickname) {
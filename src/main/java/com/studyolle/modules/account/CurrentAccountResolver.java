@@ -0,0 +1,22 @@
+package com.studyolle.modules.account;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.annotation.RequestScope;
+
+@Component
+@RequestScope
+@RequiredArgsConstructor
+public class CurrentAccountResolver {
+
+    private final AccountService accountService;
+
+    private Account account;
+
+    public Account resolve(UserAccount userAccount) {
+        if (account == null || !account.getId().equals(userAccount.getId())) {
+            account = accountService.getCurrentAccount(userAccount);
+        }
+        return account;
+    }
+}
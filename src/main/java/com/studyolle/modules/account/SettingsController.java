@@ -1,7 +1,5 @@
 package com.studyolle.modules.account;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.studyolle.modules.account.form.NicknameForm;
 import com.studyolle.modules.account.form.Notifications;
 import com.studyolle.modules.account.form.PasswordForm;
@@ -10,11 +8,12 @@ import com.studyolle.modules.tag.Tag;
 import com.studyolle.modules.zone.Zone;
 import com.studyolle.modules.account.validator.NicknameValidator;
 import com.studyolle.modules.account.validator.PasswordFormValidator;
+import com.studyolle.modules.account.validator.ProfileValidator;
 import com.studyolle.modules.tag.TagForm;
-import com.studyolle.modules.tag.TagRepository;
+import com.studyolle.modules.tag.TagCache;
 import com.studyolle.modules.tag.TagService;
 import com.studyolle.modules.zone.ZoneForm;
-import com.studyolle.modules.zone.ZoneRepository;
+import com.studyolle.modules.zone.ZoneCache;
 import lombok.RequiredArgsConstructor;
 import org.modelmapper.ModelMapper;
 import org.springframework.http.ResponseEntity;
@@ -26,7 +25,6 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 import javax.validation.Valid;
-import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -38,10 +36,10 @@ public class SettingsController {
     private final AccountService accountService;
     private final ModelMapper modelMapper;
     private final NicknameValidator nicknameValidator;
+    private final ProfileValidator profileValidator;
     private final TagService tagService;
-    private final TagRepository tagRepository;
-    private final ZoneRepository zoneRepository;
-    private final ObjectMapper objectMapper;
+    private final TagCache tagCache;
+    private final ZoneCache zoneCache;
 
     @InitBinder("passwordForm")
     public void passwordFormInitBinder(WebDataBinder webDataBinder) {
@@ -53,6 +51,11 @@ public class SettingsController {
         webDataBinder.addValidators(nicknameValidator);
     }
 
+    @InitBinder("profile")
+    public void profileInitBinder(WebDataBinder webDataBinder) {
+        webDataBinder.addValidators(profileValidator);
+    }
+
     @GetMapping("/profile")
     public String UpdateProfileForm(@CurrentAccount Account account, Model model) {
         model.addAttribute(account);
@@ -133,13 +136,12 @@ public class SettingsController {
     }
 
     @GetMapping("/tags")
-    public String updateTagForm(@CurrentAccount Account account, Model model) throws JsonProcessingException {
+    public String updateTagForm(@CurrentAccount Account account, Model model) {
         model.addAttribute(account);
         Set<Tag> tags = accountService.getTags(account);
         model.addAttribute("tags", tags.stream().map(Tag::getTitle).collect(Collectors.toList()));
 
-        List<String> allTags = tagRepository.findAll().stream().map(Tag::getTitle).collect(Collectors.toList());
-        model.addAttribute("whitelist", objectMapper.writeValueAsString(allTags));
+        model.addAttribute("whitelist", TagCache.WHITELIST_URL);
 
         return "settings/tags";
     }
@@ -156,7 +158,7 @@ public class SettingsController {
     @ResponseBody
     public ResponseEntity removeTag(@CurrentAccount Account account, @RequestBody TagForm tagForm) {
         String title = tagForm.getTagTitle();
-        Tag tag = tagRepository.findByTitle(title);
+        Tag tag = tagCache.findByTitle(title);
         if (tag == null) {
             return ResponseEntity.badRequest().build();
         }
@@ -166,14 +168,13 @@ public class SettingsController {
     }
 
     @GetMapping("/zones")
-    public String updateZonesForm(@CurrentAccount Account account, Model model) throws JsonProcessingException {
+    public String updateZonesForm(@CurrentAccount Account account, Model model) {
         model.addAttribute(account);
 
         Set<Zone> zones = accountService.getZones(account);
         model.addAttribute("zones", zones.stream().map(Zone::toString).collect(Collectors.toList()));
 
-        List<String> allZones = zoneRepository.findAll().stream().map(Zone::toString).collect(Collectors.toList());
-        model.addAttribute("whitelist", objectMapper.writeValueAsString(allZones));
+        model.addAttribute("whitelist", ZoneCache.WHITELIST_URL);
 
         return "settings/zones";
     }
@@ -181,7 +182,7 @@ public class SettingsController {
     @PostMapping("/zones/add")
     @ResponseBody
     public ResponseEntity addZone(@CurrentAccount Account account, @RequestBody ZoneForm zoneForm) {
-        Zone zone = zoneRepository.findByCityAndProvince(zoneForm.getCityName(), zoneForm.getProvinceName());
+        Zone zone = zoneCache.findByCityAndProvince(zoneForm.getCityName(), zoneForm.getProvinceName());
         if (zone == null) {
             return ResponseEntity.badRequest().build();
         }
@@ -193,7 +194,7 @@ public class SettingsController {
     @PostMapping("/zones/remove")
     @ResponseBody
     public ResponseEntity removeZone(@CurrentAccount Account account, @RequestBody ZoneForm zoneForm) {
-        Zone zone = zoneRepository.findByCityAndProvince(zoneForm.getCityName(), zoneForm.getProvinceName());
+        Zone zone = zoneCache.findByCityAndProvince(zoneForm.getCityName(), zoneForm.getProvinceName());
         if (zone == null) {
             return ResponseEntity.badRequest().build();
         }
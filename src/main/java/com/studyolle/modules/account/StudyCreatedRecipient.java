@@ -0,0 +1,19 @@
+package com.studyolle.modules.account;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class StudyCreatedRecipient {
+
+    private final Long id;
+
+    private final String email;
+
+    private final String nickname;
+
+    private final boolean studyCreatedByEmail;
+
+    private final boolean studyCreatedByWeb;
+}
@@ -1,18 +1,161 @@
 package com.studyolle.modules.account;
 
-import lombok.Getter;
+import org.springframework.security.core.CredentialsContainer;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
 
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInput;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutput;
+import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
 
-@Getter
-public class UserAccount extends User {
+public final class UserAccount implements UserDetails, CredentialsContainer {
 
-    private Account account;
+    private static final long serialVersionUID = 1L;
+
+    private static final List<GrantedAuthority> AUTHORITIES = List.of(new SimpleGrantedAuthority("ROLE_USER"));
+
+    private final Long id;
+
+    private final String nickname;
+
+    private final String email;
+
+    private transient String password;
 
     public UserAccount(Account account) {
-        super(account.getNickname(), account.getPassword(), List.of(new SimpleGrantedAuthority("ROLE_USER")));
-        this.account = account;
+        this(AccountPrincipal.from(account));
+    }
+
+    public UserAccount(AccountPrincipal principal) {
+        this.id = principal.getId();
+        this.nickname = principal.getNickname();
+        this.email = principal.getEmail();
+        this.password = principal.getPassword();
+    }
+
+    private UserAccount(Long id, String nickname, String email) {
+        this.id = id;
+        this.nickname = nickname;
+        this.email = email;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    @Override
+    public String getUsername() {
+        return nickname;
+    }
+
+    @Override
+    public String getPassword() {
+        return password;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return AUTHORITIES;
+    }
+
+    @Override
+    public boolean isAccountNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isAccountNonLocked() {
+        return true;
+    }
+
+    @Override
+    public boolean isCredentialsNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+    @Override
+    public void eraseCredentials() {
+        this.password = null;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof UserAccount)) return false;
+        UserAccount that = (UserAccount) o;
+
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(id);
+    }
+
+    @Override
+    public String toString() {
+        return "UserAccount{id=" + id + ", nickname='" + nickname + "'}";
+    }
+
+    private Object writeReplace() {
+        return new SerializedForm(id, nickname, email);
+    }
+
+    private void readObject(ObjectInputStream in) throws InvalidObjectException {
+        throw new InvalidObjectException("UserAccount는 SerializedForm으로만 역직렬화할 수 있습니다.");
+    }
+
+    private static class SerializedForm implements Externalizable {
+
+        private static final long serialVersionUID = 1L;
+
+        private long id;
+
+        private String nickname;
+
+        private String email;
+
+        public SerializedForm() {
+        }
+
+        private SerializedForm(Long id, String nickname, String email) {
+            this.id = id;
+            this.nickname = nickname;
+            this.email = email;
+        }
+
+        @Override
+        public void writeExternal(ObjectOutput out) throws IOException {
+            out.writeLong(id);
+            out.writeUTF(nickname);
+            out.writeUTF(email);
+        }
+
+        @Override
+        public void readExternal(ObjectInput in) throws IOException {
+            id = in.readLong();
+            nickname = in.readUTF();
+            email = in.readUTF();
+        }
+
+        private Object readResolve() {
+            return new UserAccount(id, nickname, email);
+        }
     }
 }
@@ -0,0 +1,22 @@
+package com.studyolle.modules.account.event;
+
+import com.studyolle.infra.outbox.OutboxMessage;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class AccountInterestsChangedEvent implements OutboxMessage {
+
+    private final Long accountId;
+
+    @Override
+    public Long getAggregateId() {
+        return accountId;
+    }
+
+    @Override
+    public String getMessage() {
+        return null;
+    }
+}
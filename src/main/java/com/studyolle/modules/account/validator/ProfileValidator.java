@@ -0,0 +1,28 @@
+package com.studyolle.modules.account.validator;
+
+import com.studyolle.infra.image.ImageStore;
+import com.studyolle.modules.account.form.Profile;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.Errors;
+import org.springframework.validation.Validator;
+
+@Component
+@RequiredArgsConstructor
+public class ProfileValidator implements Validator {
+
+    private final ImageStore imageStore;
+
+    @Override
+    public boolean supports(Class<?> clazz) {
+        return Profile.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public void validate(Object target, Errors errors) {
+        Profile profile = (Profile) target;
+        if (!imageStore.isValid(profile.getProfileImage())) {
+            errors.rejectValue("profileImage", "invalid.image", "지원하지 않는 형식이거나 너무 큰 이미지입니다.");
+        }
+    }
+}
@@ -17,6 +17,8 @@ import java.util.Objects;
         subgraphs = @NamedSubgraph(name = "study", attributeNodes = @NamedAttributeNode("study"))
 )
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(columnNames = {"event_id", "account_id"}),
+        indexes = @Index(columnList = "event_id, accepted, enrolledAt"))
 @Getter @Setter
 public class Enrollment {
 
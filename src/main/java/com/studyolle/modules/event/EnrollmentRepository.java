@@ -3,8 +3,13 @@ package com.studyolle.modules.event;
 import com.studyolle.modules.account.Account;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.LockModeType;
 import java.util.List;
 
 @Transactional(readOnly = true)
@@ -13,6 +18,18 @@ public interface EnrollmentRepository extends JpaRepository<Enrollment, Long> {
 
     Enrollment findByEventAndAccount(Event event, Account account);
 
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Enrollment findFirstByEventAndAcceptedOrderByEnrolledAtAsc(Event event, boolean accepted);
+
+    @Query(value = "select id from enrollment where event_id = :eventId and accepted = false order by enrolled_at limit :limit for update",
+            nativeQuery = true)
+    List<Long> findWaitingEnrollmentIdsForUpdate(@Param("eventId") Long eventId, @Param("limit") int limit);
+
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query("update Enrollment e set e.accepted = true where e.id in :ids")
+    int acceptAll(@Param("ids") List<Long> ids);
+
     @EntityGraph("Enrollment.withEventAndStudy")
     List<Enrollment> findByAccountAndAcceptedOrderByEnrolledAtDesc(Account account, boolean accepted);
 }
@@ -9,6 +9,7 @@ import com.studyolle.modules.study.StudyRepository;
 import com.studyolle.modules.study.StudyService;
 import lombok.RequiredArgsConstructor;
 import org.modelmapper.ModelMapper;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.Errors;
@@ -17,14 +18,14 @@ import org.springframework.web.bind.annotation.*;
 
 import javax.validation.Valid;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.List;
 
 @Controller
 @RequestMapping("/study/{path}")
 @RequiredArgsConstructor
 public class EventController {
 
+    public static final int EVENT_PAGE_SIZE = 10;
+
     private final StudyService studyService;
     private final EventService eventService;
     private final ModelMapper modelMapper;
@@ -64,29 +65,23 @@ public class EventController {
     public String getEvent(@CurrentAccount Account account, @PathVariable String path, @PathVariable("id") Event event, Model model) {
         model.addAttribute(account);
         model.addAttribute(event);
+        model.addAttribute("enrollment", enrollmentRepository.findByEventAndAccount(event, account));
         model.addAttribute(studyRepository.findStudyWithManagersByPath(path));
         return "event/view";
     }
 
     @GetMapping("/events")
-    public String viewStudyEvents(@CurrentAccount Account account, @PathVariable String path, Model model) {
-        Study study = studyService.getStudy(path);
+    public String viewStudyEvents(@CurrentAccount Account account, @PathVariable String path,
+                                  @RequestParam(defaultValue = "0") int newPage,
+                                  @RequestParam(defaultValue = "0") int oldPage, Model model) {
+        Study study = studyService.getStudyToView(account, path);
         model.addAttribute(account);
         model.addAttribute(study);
+        model.addAttribute("isMember", studyService.isMember(study, account));
 
-        List<Event> events = eventRepository.findByStudyOrderByStartDateTime(study);
-        List<Event> newEvents = new ArrayList<>();
-        List<Event> oldEvents = new ArrayList<>();
-        events.forEach(e -> {
-            if (e.getEndDateTime().isBefore(LocalDateTime.now())) {
-                oldEvents.add(e);
-            } else {
-                newEvents.add(e);
-            }
-        });
-
-        model.addAttribute("newEvents", newEvents);
-        model.addAttribute("oldEvents", oldEvents);
+        LocalDateTime now = LocalDateTime.now();
+        model.addAttribute("newEvents", eventRepository.findUpcomingEvents(study, now, PageRequest.of(Math.max(newPage, 0), EVENT_PAGE_SIZE)));
+        model.addAttribute("oldEvents", eventRepository.findPastEvents(study, now, PageRequest.of(Math.max(oldPage, 0), EVENT_PAGE_SIZE)));
 
         return "study/events";
     }
@@ -1,15 +1,34 @@
 package com.studyolle.modules.event;
 
-import com.studyolle.modules.study.Study;
-import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-
 @Transactional(readOnly = true)
-public interface EventRepository extends JpaRepository<Event, Long> {
+public interface EventRepository extends JpaRepository<Event, Long>, EventRepositoryExtension {
+
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query("update Event e set e.acceptedCount = e.acceptedCount + 1 where e.id = :id and e.acceptedCount < e.limitOfEnrollments")
+    int claimSeat(@Param("id") Long id);
+
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query("update Event e set e.acceptedCount = e.acceptedCount - 1 where e.id = :id and e.acceptedCount > 0")
+    int releaseSeat(@Param("id") Long id);
+
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query("update Event e set e.acceptedCount = e.acceptedCount + :count where e.id = :id and e.acceptedCount + :count <= e.limitOfEnrollments")
+    int claimSeats(@Param("id") Long id, @Param("count") int count);
+
+    @Query(value = "select limit_of_enrollments - accepted_count from event where id = :id for update", nativeQuery = true)
+    int findRemainSpotsForUpdate(@Param("id") Long id);
 
-    @EntityGraph(value = "Event.withEnrollments", type = EntityGraph.EntityGraphType.LOAD)
-    List<Event> findByStudyOrderByStartDateTime(Study study);
+    @Transactional
+    @Modifying
+    @Query("update Event e set e.acceptedCount = (select count(en) from Enrollment en where en.event = e and en.accepted = true) where e.acceptedCount is null")
+    int initAcceptedCounts();
 }
@@ -0,0 +1,16 @@
+package com.studyolle.modules.event;
+
+import com.studyolle.modules.study.Study;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Transactional(readOnly = true)
+public interface EventRepositoryExtension {
+
+    Page<EventSummary> findUpcomingEvents(Study study, LocalDateTime now, Pageable pageable);
+
+    Page<EventSummary> findPastEvents(Study study, LocalDateTime now, Pageable pageable);
+}
@@ -0,0 +1,47 @@
+package com.studyolle.modules.event;
+
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.studyolle.modules.study.Study;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class EventRepositoryExtensionImpl extends QuerydslRepositorySupport implements EventRepositoryExtension {
+
+    public EventRepositoryExtensionImpl() {
+        super(Event.class);
+    }
+
+    @Override
+    public Page<EventSummary> findUpcomingEvents(Study study, LocalDateTime now, Pageable pageable) {
+        QEvent event = QEvent.event;
+        return findEvents(event.study.eq(study).and(event.endDateTime.goe(now)), event.startDateTime.asc(), pageable);
+    }
+
+    @Override
+    public Page<EventSummary> findPastEvents(Study study, LocalDateTime now, Pageable pageable) {
+        QEvent event = QEvent.event;
+        return findEvents(event.study.eq(study).and(event.endDateTime.lt(now)), event.startDateTime.desc(), pageable);
+    }
+
+    private Page<EventSummary> findEvents(BooleanExpression condition, OrderSpecifier<?> order, Pageable pageable) {
+        QEvent event = QEvent.event;
+        List<EventSummary> content = from(event)
+                .select(Projections.constructor(EventSummary.class,
+                        event.id, event.title, event.endEnrollmentDateTime, event.startDateTime,
+                        event.endDateTime, event.limitOfEnrollments, event.acceptedCount))
+                .where(condition)
+                .orderBy(order, event.id.asc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+        long total = from(event).where(condition).fetchCount();
+        return new PageImpl<>(content, pageable, total);
+    }
+}
@@ -7,12 +7,17 @@ import com.studyolle.modules.study.Study;
 import com.studyolle.modules.event.form.EventForm;
 import com.studyolle.modules.study.event.StudyUpdateEvent;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.Hibernate;
 import org.modelmapper.ModelMapper;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.EntityManager;
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Service
 @Transactional
@@ -23,6 +28,7 @@ public class EventService {
     private final EnrollmentRepository enrollmentRepository;
     private final ModelMapper modelMapper;
     private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
 
     public Event createEvent(Event event, Study study, Account account) {
         event.setCreatedBy(account);
@@ -34,7 +40,7 @@ public class EventService {
 
     public void updateEvent(Event event, EventForm eventForm) {
         modelMapper.map(eventForm, event);
-        event.acceptWaitingList();
+        acceptWaitingList(event);
         eventPublisher.publishEvent(new StudyUpdateEvent(event.getStudy(), "'" + event.getTitle() + "' 모임 정보를 수정했으니 확인하세요."));
     }
 
@@ -47,9 +53,9 @@ public class EventService {
         if (!enrollmentRepository.existsByEventAndAccount(event, account)) {
             Enrollment enrollment = new Enrollment();
             enrollment.setEnrolledAt(LocalDateTime.now());
-            enrollment.setAccepted(event.isAbleToAcceptWaitingEnrollment());
+            enrollment.setAccepted(event.getEventType() == EventType.FCFS && eventRepository.claimSeat(event.getId()) == 1);
             enrollment.setAccount(account);
-            event.addEnrollment(enrollment);
+            enrollment.setEvent(event);
             enrollmentRepository.save(enrollment);
         }
     }
@@ -57,20 +63,64 @@ public class EventService {
     public void cancelEnrollment(Event event, Account account) {
         Enrollment enrollment = enrollmentRepository.findByEventAndAccount(event, account);
         if (!enrollment.isAttended()) {
-            event.removeEnrollment(enrollment);
             enrollmentRepository.delete(enrollment);
-            event.acceptNextWaitingEnrollment();
+            if (enrollment.isAccepted()) {
+                eventRepository.releaseSeat(event.getId());
+                acceptNextWaitingEnrollment(event);
+            }
         }
     }
 
     public void acceptEnrollment(Event event, Enrollment enrollment) {
-        event.accept(enrollment);
-        eventPublisher.publishEvent(new EnrollmentAcceptedEvent(enrollment));
+        if (event.getEventType() == EventType.CONFIRMATIVE && !enrollment.isAccepted()
+                && eventRepository.claimSeat(event.getId()) == 1) {
+            enrollment.setAccepted(true);
+            eventPublisher.publishEvent(new EnrollmentAcceptedEvent(enrollment));
+        }
     }
 
     public void rejectEnrollment(Event event, Enrollment enrollment) {
-        event.reject(enrollment);
-        eventPublisher.publishEvent(new EnrollmentRejectedEvent(enrollment));
+        if (event.getEventType() == EventType.CONFIRMATIVE && enrollment.isAccepted()) {
+            enrollment.setAccepted(false);
+            eventRepository.releaseSeat(event.getId());
+            eventPublisher.publishEvent(new EnrollmentRejectedEvent(enrollment));
+        }
+    }
+
+    private void acceptWaitingList(Event event) {
+        if (event.getEventType() != EventType.FCFS) {
+            return;
+        }
+
+        int remainSpots = eventRepository.findRemainSpotsForUpdate(event.getId());
+        if (remainSpots <= 0) {
+            return;
+        }
+
+        List<Long> enrollmentIds = enrollmentRepository.findWaitingEnrollmentIdsForUpdate(event.getId(), remainSpots);
+        if (enrollmentIds.isEmpty() || eventRepository.claimSeats(event.getId(), enrollmentIds.size()) == 0) {
+            return;
+        }
+
+        enrollmentRepository.acceptAll(enrollmentIds);
+        enrollmentIds.forEach(id -> {
+            Enrollment enrollment = enrollmentRepository.getById(id);
+            if (Hibernate.isInitialized(enrollment)) {
+                entityManager.refresh(enrollment);
+            }
+            eventPublisher.publishEvent(new EnrollmentAcceptedEvent(enrollment));
+        });
+    }
+
+    private void acceptNextWaitingEnrollment(Event event) {
+        if (event.getEventType() != EventType.FCFS) {
+            return;
+        }
+
+        Enrollment enrollmentToAccept = enrollmentRepository.findFirstByEventAndAcceptedOrderByEnrolledAtAsc(event, false);
+        if (enrollmentToAccept != null && eventRepository.claimSeat(event.getId()) == 1) {
+            enrollmentToAccept.setAccepted(true);
+        }
     }
 
     public void checkInEnrollment(Enrollment enrollment) {
@@ -80,4 +130,9 @@ public class EventService {
     public void cancelCheckInEnrollment(Enrollment enrollment) {
         enrollment.setAttended(false);
     }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initAcceptedCounts() {
+        eventRepository.initAcceptedCounts();
+    }
 }
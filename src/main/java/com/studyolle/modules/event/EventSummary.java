@@ -0,0 +1,29 @@
+package com.studyolle.modules.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class EventSummary {
+
+    private final Long id;
+
+    private final String title;
+
+    private final LocalDateTime endEnrollmentDateTime;
+
+    private final LocalDateTime startDateTime;
+
+    private final LocalDateTime endDateTime;
+
+    private final Integer limitOfEnrollments;
+
+    private final Integer acceptedCount;
+
+    public int numberOfRemainSpots() {
+        return this.limitOfEnrollments - this.acceptedCount;
+    }
+}
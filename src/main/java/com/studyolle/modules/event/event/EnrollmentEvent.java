@@ -1,15 +1,20 @@
 package com.studyolle.modules.event.event;
 
+import com.studyolle.infra.outbox.OutboxMessage;
 import com.studyolle.modules.event.Enrollment;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
 @Getter
 @RequiredArgsConstructor
-public abstract class EnrollmentEvent {
+public abstract class EnrollmentEvent implements OutboxMessage {
 
     protected final Enrollment enrollment;
 
     protected final String message;
 
-}
\ No newline at end of file
+    @Override
+    public Long getAggregateId() {
+        return enrollment.getId();
+    }
+}
@@ -1,39 +1,55 @@
 package com.studyolle.modules.event.event;
 
-import com.studyolle.infra.config.AppProperties;
 import com.studyolle.infra.mail.EmailMessage;
 import com.studyolle.infra.mail.EmailService;
+import com.studyolle.infra.mail.MailTemplateRenderer;
+import com.studyolle.infra.outbox.OutboxEvent;
+import com.studyolle.infra.outbox.OutboxEventHandler;
 import com.studyolle.modules.account.Account;
 import com.studyolle.modules.event.Enrollment;
+import com.studyolle.modules.event.EnrollmentRepository;
 import com.studyolle.modules.event.Event;
 import com.studyolle.modules.notification.Notification;
 import com.studyolle.modules.notification.NotificationRepository;
 import com.studyolle.modules.notification.NotificationType;
+import com.studyolle.modules.notification.UnreadNotificationCounter;
 import com.studyolle.modules.study.Study;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
-import org.thymeleaf.TemplateEngine;
-import org.thymeleaf.context.Context;
 
 import java.time.LocalDateTime;
 
 @Slf4j
-@Async
 @Component
 @Transactional
 @RequiredArgsConstructor
-public class EnrollmentEventListener {
+public class EnrollmentEventListener implements OutboxEventHandler {
 
+    private final EnrollmentRepository enrollmentRepository;
     private final NotificationRepository notificationRepository;
-    private final AppProperties appProperties;
-    private final TemplateEngine templateEngine;
+    private final UnreadNotificationCounter unreadNotificationCounter;
+    private final MailTemplateRenderer mailTemplateRenderer;
     private final EmailService emailService;
 
-    @EventListener
+    @Override
+    public boolean supports(String eventType) {
+        return EnrollmentAcceptedEvent.class.getSimpleName().equals(eventType)
+                || EnrollmentRejectedEvent.class.getSimpleName().equals(eventType);
+    }
+
+    @Override
+    public void handle(OutboxEvent outboxEvent) {
+        enrollmentRepository.findById(outboxEvent.getAggregateId()).ifPresent(enrollment -> {
+            if (EnrollmentAcceptedEvent.class.getSimpleName().equals(outboxEvent.getEventType())) {
+                handleEnrollmentEvent(new EnrollmentAcceptedEvent(enrollment));
+            } else {
+                handleEnrollmentEvent(new EnrollmentRejectedEvent(enrollment));
+            }
+        });
+    }
+
     public void handleEnrollmentEvent(EnrollmentEvent enrollmentEvent) {
         Enrollment enrollment = enrollmentEvent.getEnrollment();
         Account account = enrollment.getAccount();
@@ -50,13 +66,8 @@ public class EnrollmentEventListener {
     }
 
     private void sendEmail(EnrollmentEvent enrollmentEvent, Account account, Event event, Study study) {
-        Context context = new Context();
-        context.setVariable("nickname", account.getNickname());
-        context.setVariable("link", "/study/" + study.getEncodedPath() + "/events/" + event.getId());
-        context.setVariable("linkName", study.getTitle());
-        context.setVariable("message", enrollmentEvent.getMessage());
-        context.setVariable("host", appProperties.getHost());
-        String message = templateEngine.process("mail/simple-link", context);
+        String message = mailTemplateRenderer.simpleLink("/study/" + study.getEncodedPath() + "/events/" + event.getId(),
+                study.getTitle(), enrollmentEvent.getMessage()).render(account.getNickname());
 
         EmailMessage emailMessage = EmailMessage.builder()
                 .subject("스터디올래, " + event.getTitle() + " 모임 참가 신청 결과입니다.")
@@ -77,6 +88,7 @@ public class EnrollmentEventListener {
         notification.setAccount(account);
         notification.setNotificationType(NotificationType.EVENT_ENROLLMENT);
         notificationRepository.save(notification);
+        unreadNotificationCounter.increment(account.getId());
     }
 
 }
\ No newline at end of file
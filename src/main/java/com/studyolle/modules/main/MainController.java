@@ -5,6 +5,7 @@ import com.studyolle.modules.account.AccountRepository;
 import com.studyolle.modules.account.CurrentAccount;
 import com.studyolle.modules.event.EnrollmentRepository;
 import com.studyolle.modules.study.Study;
+import com.studyolle.modules.study.StudyRecommendationService;
 import com.studyolle.modules.study.StudyRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -24,6 +25,7 @@ public class MainController {
     private final StudyRepository studyRepository;
     private final EnrollmentRepository enrollmentRepository;
     private final AccountRepository accountRepository;
+    private final StudyRecommendationService studyRecommendationService;
 
     @GetMapping("/")
     public String home(@CurrentAccount Account account, Model model) {
@@ -31,7 +33,7 @@ public class MainController {
             Account accountLoaded = accountRepository.findAccountWithTagsAndZonesById(account.getId());
             model.addAttribute(accountLoaded);
             model.addAttribute("enrollmentList", enrollmentRepository.findByAccountAndAcceptedOrderByEnrolledAtDesc(accountLoaded, true));
-            model.addAttribute("studyList", studyRepository.findByAccount(accountLoaded.getTags(), accountLoaded.getZones()));
+            model.addAttribute("studyList", studyRecommendationService.getRecommendedStudies(accountLoaded));
             model.addAttribute("studyManagerOf", studyRepository.findFirst5ByManagersContainingAndClosedOrderByPublishedDateTimeDesc(account, false));
             model.addAttribute("studyMemberOf", studyRepository.findFirst5ByMembersContainingAndClosedOrderByPublishedDateTimeDesc(account, false));
             return "index-after-login";
@@ -4,6 +4,8 @@ import com.studyolle.modules.account.Account;
 import lombok.Getter;
 import lombok.Setter;
 import org.hibernate.Hibernate;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
 
 import javax.persistence.*;
 import java.time.LocalDateTime;
@@ -13,7 +15,13 @@ import java.util.Objects;
 @Getter @Setter
 public class Notification {
 
-    @Id @GeneratedValue
+    @Id @GeneratedValue(generator = "notification_id")
+    @GenericGenerator(name = "notification_id", strategy = "org.hibernate.id.enhanced.SequenceStyleGenerator",
+            parameters = {
+                    @Parameter(name = "sequence_name", value = "hibernate_sequence"),
+                    @Parameter(name = "increment_size", value = "50"),
+                    @Parameter(name = "optimizer", value = "pooled-lo")
+            })
     private Long id;
 
     private String title;
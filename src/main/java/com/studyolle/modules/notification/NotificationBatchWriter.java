@@ -0,0 +1,50 @@
+package com.studyolle.modules.notification;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+public class NotificationBatchWriter {
+
+    private final EntityManager entityManager;
+
+    private final int batchSize;
+
+    public NotificationBatchWriter(EntityManager entityManager,
+                                   @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:100}") int batchSize) {
+        this.entityManager = entityManager;
+        this.batchSize = batchSize;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public long write(Iterable<Notification> notifications) {
+        long count = 0;
+        List<Notification> batch = new ArrayList<>(batchSize);
+        for (Notification notification : notifications) {
+            entityManager.persist(notification);
+            batch.add(notification);
+            count++;
+            if (batch.size() == batchSize) {
+                flush(batch);
+            }
+        }
+        flush(batch);
+        return count;
+    }
+
+    private void flush(List<Notification> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        entityManager.flush();
+        batch.forEach(entityManager::detach);
+        batch.clear();
+    }
+}
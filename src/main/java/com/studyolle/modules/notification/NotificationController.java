@@ -40,7 +40,7 @@ public class NotificationController {
 
     @DeleteMapping("/notifications")
     public String deleteNotifications(@CurrentAccount Account account) {
-        repository.deleteByAccountAndChecked(account, true);
+        service.deleteCheckedNotifications(account);
         return "redirect:/notifications";
     }
 
@@ -1,6 +1,5 @@
 package com.studyolle.modules.notification;
 
-import com.studyolle.modules.account.Account;
 import com.studyolle.modules.account.UserAccount;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
@@ -17,15 +16,14 @@ import javax.servlet.http.HttpServletResponse;
 @RequiredArgsConstructor
 public class NotificationInterceptor implements HandlerInterceptor {
 
-    private final NotificationRepository notificationRepository;
+    private final UnreadNotificationCounter unreadNotificationCounter;
 
     @Override
     public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler, ModelAndView modelAndView) throws Exception {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         if(modelAndView != null && !isRedirectView(modelAndView) && authentication != null && authentication.getPrincipal() instanceof UserAccount) {
-            Account account = ((UserAccount) authentication.getPrincipal()).getAccount();
-            long count = notificationRepository.countByAccountAndChecked(account, false);
-            modelAndView.addObject("hasNotification", count > 0);
+            Long accountId = ((UserAccount) authentication.getPrincipal()).getId();
+            modelAndView.addObject("hasNotification", unreadNotificationCounter.hasUnread(accountId));
         }
     }
 
@@ -11,6 +11,8 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
 
     long countByAccountAndChecked(Account account, boolean checked);
 
+    long countByAccountIdAndChecked(Long accountId, boolean checked);
+
     @Transactional
     List<Notification> findByAccountAndCheckedOrderByCreatedDateTimeDesc(Account account, boolean checked);
 
@@ -1,10 +1,12 @@
 package com.studyolle.modules.notification;
 
+import com.studyolle.modules.account.Account;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional
@@ -12,9 +14,18 @@ import java.util.List;
 public class NotificationService {
 
     private final NotificationRepository notificationRepository;
+    private final UnreadNotificationCounter unreadNotificationCounter;
 
     public void markAsRead(List<Notification> notifications) {
         notifications.forEach(n -> n.setChecked(true));
         notificationRepository.saveAll(notifications);
+        notifications.stream()
+                .collect(Collectors.groupingBy(n -> n.getAccount().getId(), Collectors.counting()))
+                .forEach(unreadNotificationCounter::decrement);
+    }
+
+    public void deleteCheckedNotifications(Account account) {
+        notificationRepository.deleteByAccountAndChecked(account, true);
+        unreadNotificationCounter.evict(account.getId());
     }
 }
\ No newline at end of file
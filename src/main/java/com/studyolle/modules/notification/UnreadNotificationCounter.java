@@ -0,0 +1,80 @@
+package com.studyolle.modules.notification;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+@RequiredArgsConstructor
+public class UnreadNotificationCounter {
+
+    static final int MAXIMUM_SIZE = 10_000;
+
+    private final NotificationRepository notificationRepository;
+
+    private final ConcurrentMap<Long, AtomicLong> counts = new ConcurrentHashMap<>();
+
+    public boolean hasUnread(Long accountId) {
+        return getCount(accountId) > 0;
+    }
+
+    public long getCount(Long accountId) {
+        AtomicLong count = counts.get(accountId);
+        if (count == null) {
+            count = counts.computeIfAbsent(accountId,
+                    id -> new AtomicLong(notificationRepository.countByAccountIdAndChecked(id, false)));
+            trimToSize(accountId);
+        }
+        return count.get();
+    }
+
+    public void increment(Long accountId) {
+        afterCommit(() -> counts.computeIfPresent(accountId, (id, count) -> {
+            count.incrementAndGet();
+            return count;
+        }));
+    }
+
+    public void decrement(Long accountId, long read) {
+        afterCommit(() -> counts.computeIfPresent(accountId, (id, count) -> {
+            count.updateAndGet(unread -> Math.max(0, unread - read));
+            return count;
+        }));
+    }
+
+    public void evict(Long accountId) {
+        afterCommit(() -> counts.remove(accountId));
+    }
+
+    int size() {
+        return counts.size();
+    }
+
+    private void trimToSize(Long loadedAccountId) {
+        Iterator<Long> accountIds = counts.keySet().iterator();
+        while (counts.size() > MAXIMUM_SIZE && accountIds.hasNext()) {
+            if (!accountIds.next().equals(loadedAccountId)) {
+                accountIds.remove();
+            }
+        }
+    }
+
+    private void afterCommit(Runnable change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    change.run();
+                }
+            });
+        } else {
+            change.run();
+        }
+    }
+}
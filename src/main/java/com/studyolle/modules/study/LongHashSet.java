@@ -0,0 +1,125 @@
+package com.studyolle.modules.study;
+
+class LongHashSet {
+
+    private static final long FREE = 0L;
+
+    private static final long GOLDEN_RATIO = 0x9E3779B97F4A7C15L;
+
+    private long[] table;
+
+    private int shift;
+
+    private int size;
+
+    private boolean containsFree;
+
+    LongHashSet(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(4, expectedSize * 2 - 1)) << 1;
+        this.table = new long[capacity];
+        this.shift = Long.numberOfLeadingZeros(capacity - 1L);
+    }
+
+    boolean contains(long value) {
+        if (value == FREE) {
+            return containsFree;
+        }
+        int mask = table.length - 1;
+        for (int i = indexOf(value); ; i = (i + 1) & mask) {
+            long current = table[i];
+            if (current == FREE) {
+                return false;
+            }
+            if (current == value) {
+                return true;
+            }
+        }
+    }
+
+    boolean add(long value) {
+        if (value == FREE) {
+            if (containsFree) {
+                return false;
+            }
+            containsFree = true;
+            size++;
+            return true;
+        }
+        int mask = table.length - 1;
+        int i = indexOf(value);
+        for (long current = table[i]; current != FREE; current = table[i]) {
+            if (current == value) {
+                return false;
+            }
+            i = (i + 1) & mask;
+        }
+        table[i] = value;
+        if (++size * 2 > table.length) {
+            rehash();
+        }
+        return true;
+    }
+
+    boolean remove(long value) {
+        if (value == FREE) {
+            if (!containsFree) {
+                return false;
+            }
+            containsFree = false;
+            size--;
+            return true;
+        }
+        int mask = table.length - 1;
+        int i = indexOf(value);
+        for (long current = table[i]; current != value; current = table[i]) {
+            if (current == FREE) {
+                return false;
+            }
+            i = (i + 1) & mask;
+        }
+        shiftBack(i);
+        size--;
+        return true;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private void shiftBack(int hole) {
+        int mask = table.length - 1;
+        for (int i = (hole + 1) & mask; table[i] != FREE; i = (i + 1) & mask) {
+            int home = indexOf(table[i]);
+            if (((i - home) & mask) >= ((i - hole) & mask)) {
+                table[hole] = table[i];
+                hole = i;
+            }
+        }
+        table[hole] = FREE;
+    }
+
+    private void rehash() {
+        long[] old = table;
+        table = new long[old.length * 2];
+        shift--;
+        int mask = table.length - 1;
+        for (long value : old) {
+            if (value != FREE) {
+                int i = indexOf(value);
+                while (table[i] != FREE) {
+                    i = (i + 1) & mask;
+                }
+                table[i] = value;
+            }
+        }
+    }
+
+    private int indexOf(long value) {
+        return (int) ((value * GOLDEN_RATIO) >>> shift);
+    }
+
+    @Override
+    public String toString() {
+        return "LongHashSet{size=" + size + ", capacity=" + table.length + "}";
+    }
+}
@@ -1,5 +1,6 @@
 package com.studyolle.modules.study;
 
+import com.studyolle.infra.image.ImageStore;
 import com.studyolle.modules.account.Account;
 import com.studyolle.modules.account.UserAccount;
 import com.studyolle.modules.tag.Tag;
@@ -11,6 +12,7 @@ import javax.persistence.*;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
@@ -24,9 +26,11 @@ public class Study {
     private Long id;
 
     @ManyToMany
+    @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE)
     private Set<Account> managers = new HashSet<>();
 
     @ManyToMany
+    @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE)
     private Set<Account> members = new HashSet<>();
 
     @Column(unique = true)
@@ -36,10 +40,9 @@ public class Study {
 
     private String shortDescription;
 
-    @Lob @Basic(fetch = FetchType.EAGER)
+    @Lob @Basic(fetch = FetchType.LAZY)
     private String fullDescription;
 
-    @Lob @Basic(fetch = FetchType.EAGER)
     private String image;
 
     @ManyToMany
@@ -62,36 +65,89 @@ public class Study {
 
     private boolean useBanner;
 
+    @Column(updatable = false)
     private int memberCount;
 
+    // Built lazily and reset by addManager, addMember and removeMember, the only ways to change the sets.
+    @Transient
+    @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE)
+    private LongHashSet managerIds;
+
+    @Transient
+    @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE)
+    private LongHashSet memberIds;
+
+    public Set<Account> getManagers() {
+        return Collections.unmodifiableSet(this.managers);
+    }
+
+    public Set<Account> getMembers() {
+        return Collections.unmodifiableSet(this.members);
+    }
+
     public void addManager(Account account) {
         this.managers.add(account);
+        this.managerIds = null;
     }
 
     public boolean isJoinable(UserAccount userAccount) {
-        Account account = userAccount.getAccount();
-        return this.isPublished() && this.isRecruiting()
-                && !this.members.contains(account) && !this.managers.contains(account);
+        return isJoinable(userAccount, this.isMember(userAccount));
+    }
 
+    public boolean isJoinable(UserAccount userAccount, boolean member) {
+        return this.isPublished() && this.isRecruiting() && !member && !this.isManager(userAccount);
     }
 
     public boolean isMember(UserAccount userAccount) {
-        return this.members.contains(userAccount.getAccount());
+        return userAccount.getId() != null && getMemberIds().contains(userAccount.getId());
     }
 
     public boolean isManager(UserAccount userAccount) {
-        return this.managers.contains(userAccount.getAccount());
+        return userAccount.getId() != null && getManagerIds().contains(userAccount.getId());
     }
 
     public void addMember(Account account) {
-        this.getMembers().add(account);
-        this.memberCount++;
+        this.members.add(account);
+        this.memberIds = null;
+    }
+
+    public void removeMember(Account account) {
+        this.members.remove(account);
+        this.memberIds = null;
+    }
+
+    private LongHashSet getManagerIds() {
+        if (this.managerIds == null) {
+            this.managerIds = indexIds(this.managers);
+        }
+        return this.managerIds;
+    }
+
+    private LongHashSet getMemberIds() {
+        if (this.memberIds == null) {
+            this.memberIds = indexIds(this.members);
+        }
+        return this.memberIds;
+    }
+
+    private static LongHashSet indexIds(Set<Account> accounts) {
+        LongHashSet ids = new LongHashSet(accounts.size());
+        for (Account account : accounts) {
+            if (account.getId() != null) {
+                ids.add(account.getId());
+            }
+        }
+        return ids;
     }
 
     public String getImage() {
         return image != null ? image : "/images/default_banner.png";
     }
 
+    public String getThumbnail() {
+        return ImageStore.thumbnailUrlOf(getImage());
+    }
+
     public void publish() {
         if (!this.closed && !this.published) {
             this.published = true;
@@ -136,17 +192,12 @@ public class Study {
         return !this.published; // TODO 모임을 했던 스터디는 삭제할 수 없다.
     }
 
-    public void removeMember(Account account) {
-        this.getMembers().remove(account);
-        this.memberCount--;
-    }
-
     public String getEncodedPath() {
         return URLEncoder.encode(this.path, StandardCharsets.UTF_8);
     }
 
     public boolean isManagedBy(Account account) {
-        return this.getManagers().contains(account);
+        return account.getId() != null && getManagerIds().contains(account.getId());
     }
 
     @Override
@@ -14,16 +14,18 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.InitBinder;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
 
 import javax.validation.Valid;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
 
 @Controller
 @RequiredArgsConstructor
 public class StudyController {
 
-    private final StudyRepository studyRepository;
     private final StudyService studyService;
     private final ModelMapper modelMapper;
     private final StudyFormValidator studyFormValidator;
@@ -53,30 +55,42 @@ public class StudyController {
 
     @GetMapping("/study/{path}")
     public String viewStudy(@CurrentAccount Account account, @PathVariable String path, Model model) {
-        Study study = studyService.getStudy(path);
+        Study study = studyService.getStudyToView(account, path);
         model.addAttribute(account);
         model.addAttribute(study);
+        model.addAttribute("isMember", studyService.isMember(study, account));
         return "study/view";
     }
 
     @GetMapping("/study/{path}/members")
-    public String viewStudyMembers(@CurrentAccount Account account, @PathVariable String path, Model model) {
-        Study study = studyService.getStudy(path);
+    public String viewStudyMembers(@CurrentAccount Account account, @PathVariable String path,
+                                   @RequestParam(required = false) Long after, Model model) {
+        Study study = studyService.getStudyToView(account, path);
         model.addAttribute(account);
         model.addAttribute(study);
+        model.addAttribute("isMember", studyService.isMember(study, account));
+        model.addAttribute("managers", after == null ? studyService.getManagers(study) : List.of());
+        model.addAttribute(studyService.getMemberPage(study, after));
         return "study/members";
     }
 
+    @GetMapping("/study/{path}/members/page")
+    @ResponseBody
+    public StudyMemberPage studyMemberPage(@PathVariable String path, @RequestParam(required = false) Long after) {
+        Study study = studyService.getStudyToEnroll(path);
+        return studyService.getMemberPage(study, after);
+    }
+
     @GetMapping("/study/{path}/join")
     public String joinStudy(@CurrentAccount Account account, @PathVariable String path) {
-        Study study = studyRepository.findStudyWithMembersByPath(path);
+        Study study = studyService.getStudyToEnroll(path);
         studyService.addMember(study, account);
         return "redirect:/study/" + study.getEncodedPath() + "/members";
     }
 
     @GetMapping("/study/{path}/leave")
     public String leaveStudy(@CurrentAccount Account account, @PathVariable String path) {
-        Study study = studyRepository.findStudyWithMembersByPath(path);
+        Study study = studyService.getStudyToEnroll(path);
         studyService.removeMember(study, account);
         return "redirect:/study/" + study.getEncodedPath() + "/members";
     }
@@ -0,0 +1,23 @@
+package com.studyolle.modules.study;
+
+import com.studyolle.infra.image.ImageStore;
+import lombok.Getter;
+
+@Getter
+public class StudyMember {
+
+    private final Long id;
+
+    private final String nickname;
+
+    private final String bio;
+
+    private final String thumbnail;
+
+    public StudyMember(Long id, String nickname, String bio, String profileImage) {
+        this.id = id;
+        this.nickname = nickname;
+        this.bio = bio;
+        this.thumbnail = ImageStore.thumbnailUrlOf(profileImage);
+    }
+}
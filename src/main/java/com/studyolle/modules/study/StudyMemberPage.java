@@ -0,0 +1,15 @@
+package com.studyolle.modules.study;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class StudyMemberPage {
+
+    private final List<StudyMember> members;
+
+    private final Long next;
+}
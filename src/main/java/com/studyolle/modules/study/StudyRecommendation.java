@@ -0,0 +1,48 @@
+package com.studyolle.modules.study;
+
+import lombok.*;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+@Entity
+@Getter @Setter
+@Builder @AllArgsConstructor @NoArgsConstructor
+@Table(indexes = @Index(columnList = "accountId, publishedDateTime"))
+public class StudyRecommendation {
+
+    @Id @GeneratedValue(generator = "study_recommendation_id")
+    @GenericGenerator(name = "study_recommendation_id", strategy = "org.hibernate.id.enhanced.SequenceStyleGenerator",
+            parameters = {
+                    @Parameter(name = "sequence_name", value = "hibernate_sequence"),
+                    @Parameter(name = "increment_size", value = "50"),
+                    @Parameter(name = "optimizer", value = "pooled-lo")
+            })
+    private Long id;
+
+    @Column(nullable = false)
+    private Long accountId;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    private Study study;
+
+    private LocalDateTime publishedDateTime;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || Hibernate.getClass(this) != Hibernate.getClass(o)) return false;
+        StudyRecommendation that = (StudyRecommendation) o;
+
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return 1822915421;
+    }
+}
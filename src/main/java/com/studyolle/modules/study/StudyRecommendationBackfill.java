@@ -0,0 +1,28 @@
+package com.studyolle.modules.study;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// One-off job: start a single node with --app.recommendation.backfill=true. recommend() applies a delta, so a rerun is harmless.
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.recommendation.backfill", havingValue = "true")
+@RequiredArgsConstructor
+public class StudyRecommendationBackfill implements ApplicationRunner {
+
+    private final StudyRecommendationRepository studyRecommendationRepository;
+    private final StudyRecommendationService studyRecommendationService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        List<Long> studyIds = studyRecommendationRepository.findOpenStudyIds();
+        studyIds.forEach(studyRecommendationService::recommend);
+        log.info("recommended {} studies", studyIds.size());
+    }
+}
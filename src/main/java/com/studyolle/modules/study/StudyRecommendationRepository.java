@@ -0,0 +1,12 @@
+package com.studyolle.modules.study;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Transactional(readOnly = true)
+public interface StudyRecommendationRepository extends JpaRepository<StudyRecommendation, Long>, StudyRecommendationRepositoryExtension {
+
+    List<StudyRecommendation> findFirst9ByAccountIdOrderByPublishedDateTimeDesc(Long accountId);
+}
@@ -0,0 +1,36 @@
+package com.studyolle.modules.study;
+
+import com.studyolle.modules.tag.Tag;
+import com.studyolle.modules.zone.Zone;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+@Transactional(readOnly = true)
+public interface StudyRecommendationRepositoryExtension {
+
+    List<Long> findAccountIdsToRecommend(Set<Tag> tags, Set<Zone> zones);
+
+    List<StudyRecommendation> findRecommendationsForAccount(Long accountId, Set<Tag> tags, Set<Zone> zones);
+
+    List<Long> findOpenStudyIds();
+
+    List<Long> findAccountIdsByStudyId(Long studyId);
+
+    List<Long> findStudyIdsByAccountId(Long accountId);
+
+    @Transactional
+    long insertAll(Long studyId, LocalDateTime publishedDateTime, Collection<Long> accountIds);
+
+    @Transactional
+    long deleteByStudyIdAndAccountIds(Long studyId, Collection<Long> accountIds);
+
+    @Transactional
+    long deleteByStudyId(Long studyId);
+
+    @Transactional
+    long deleteByAccountIdAndStudyIds(Long accountId, Collection<Long> studyIds);
+}
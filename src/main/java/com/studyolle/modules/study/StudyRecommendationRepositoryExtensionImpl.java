@@ -0,0 +1,146 @@
+package com.studyolle.modules.study;
+
+import com.studyolle.modules.account.AccountPredicates;
+import com.studyolle.modules.account.QAccount;
+import com.studyolle.modules.tag.Tag;
+import com.studyolle.modules.zone.Zone;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public class StudyRecommendationRepositoryExtensionImpl extends QuerydslRepositorySupport implements StudyRecommendationRepositoryExtension {
+
+    private final int batchSize;
+
+    public StudyRecommendationRepositoryExtensionImpl(@Value("${spring.jpa.properties.hibernate.jdbc.batch_size:100}") int batchSize) {
+        super(StudyRecommendation.class);
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public List<Long> findAccountIdsToRecommend(Set<Tag> tags, Set<Zone> zones) {
+        if (tags.isEmpty() || zones.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        QAccount account = QAccount.account;
+        return from(account).select(account.id)
+                .where(AccountPredicates.findByTagsAndZones(tags, zones))
+                .fetch();
+    }
+
+    @Override
+    public List<StudyRecommendation> findRecommendationsForAccount(Long accountId, Set<Tag> tags, Set<Zone> zones) {
+        if (tags.isEmpty() || zones.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        QStudy study = QStudy.study;
+        return from(study).select(study.id, study.publishedDateTime)
+                .where(study.published.isTrue()
+                        .and(study.closed.isFalse())
+                        .and(study.tags.any().in(tags))
+                        .and(study.zones.any().in(zones)))
+                .fetch().stream()
+                .map(tuple -> StudyRecommendation.builder()
+                        .accountId(accountId)
+                        .study(getEntityManager().getReference(Study.class, tuple.get(study.id)))
+                        .publishedDateTime(tuple.get(study.publishedDateTime))
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Long> findOpenStudyIds() {
+        QStudy study = QStudy.study;
+        return from(study).select(study.id)
+                .where(study.published.isTrue().and(study.closed.isFalse()))
+                .fetch();
+    }
+
+    @Override
+    public List<Long> findAccountIdsByStudyId(Long studyId) {
+        QStudyRecommendation studyRecommendation = QStudyRecommendation.studyRecommendation;
+        return from(studyRecommendation).select(studyRecommendation.accountId)
+                .where(studyRecommendation.study.id.eq(studyId))
+                .fetch();
+    }
+
+    @Override
+    public List<Long> findStudyIdsByAccountId(Long accountId) {
+        QStudyRecommendation studyRecommendation = QStudyRecommendation.studyRecommendation;
+        return from(studyRecommendation).select(studyRecommendation.study.id)
+                .where(studyRecommendation.accountId.eq(accountId))
+                .fetch();
+    }
+
+    @Override
+    public long insertAll(Long studyId, LocalDateTime publishedDateTime, Collection<Long> accountIds) {
+        Study study = getEntityManager().getReference(Study.class, studyId);
+        List<StudyRecommendation> batch = new ArrayList<>(batchSize);
+        for (Long accountId : accountIds) {
+            StudyRecommendation recommendation = StudyRecommendation.builder()
+                    .accountId(accountId)
+                    .study(study)
+                    .publishedDateTime(publishedDateTime)
+                    .build();
+            getEntityManager().persist(recommendation);
+            batch.add(recommendation);
+            if (batch.size() == batchSize) {
+                flush(batch);
+            }
+        }
+        flush(batch);
+        return accountIds.size();
+    }
+
+    @Override
+    public long deleteByStudyIdAndAccountIds(Long studyId, Collection<Long> accountIds) {
+        QStudyRecommendation studyRecommendation = QStudyRecommendation.studyRecommendation;
+        List<Long> ids = new ArrayList<>(accountIds);
+        long count = 0;
+        for (int start = 0; start < ids.size(); start += batchSize) {
+            List<Long> chunk = ids.subList(start, Math.min(start + batchSize, ids.size()));
+            count += delete(studyRecommendation)
+                    .where(studyRecommendation.study.id.eq(studyId), studyRecommendation.accountId.in(chunk))
+                    .execute();
+        }
+        return count;
+    }
+
+    @Override
+    public long deleteByStudyId(Long studyId) {
+        QStudyRecommendation studyRecommendation = QStudyRecommendation.studyRecommendation;
+        return delete(studyRecommendation).where(studyRecommendation.study.id.eq(studyId)).execute();
+    }
+
+    @Override
+    public long deleteByAccountIdAndStudyIds(Long accountId, Collection<Long> studyIds) {
+        QStudyRecommendation studyRecommendation = QStudyRecommendation.studyRecommendation;
+        List<Long> ids = new ArrayList<>(studyIds);
+        long count = 0;
+        for (int start = 0; start < ids.size(); start += batchSize) {
+            List<Long> chunk = ids.subList(start, Math.min(start + batchSize, ids.size()));
+            count += delete(studyRecommendation)
+                    .where(studyRecommendation.accountId.eq(accountId), studyRecommendation.study.id.in(chunk))
+                    .execute();
+        }
+        return count;
+    }
+
+    private void flush(List<StudyRecommendation> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        getEntityManager().flush();
+        batch.forEach(getEntityManager()::detach);
+        batch.clear();
+    }
+}
@@ -0,0 +1,94 @@
+package com.studyolle.modules.study;
+
+import com.studyolle.infra.outbox.OutboxEvent;
+import com.studyolle.infra.outbox.OutboxEventHandler;
+import com.studyolle.modules.account.Account;
+import com.studyolle.modules.account.AccountRepository;
+import com.studyolle.modules.account.event.AccountInterestsChangedEvent;
+import com.studyolle.modules.study.event.StudyCreatedEvent;
+import com.studyolle.modules.study.event.StudyInterestsChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class StudyRecommendationService implements OutboxEventHandler {
+
+    private final StudyRecommendationRepository studyRecommendationRepository;
+    private final StudyRepository studyRepository;
+    private final AccountRepository accountRepository;
+
+    @Transactional(readOnly = true)
+    public List<Study> getRecommendedStudies(Account account) {
+        List<Long> studyIds = studyRecommendationRepository.findFirst9ByAccountIdOrderByPublishedDateTimeDesc(account.getId()).stream()
+                .map(recommendation -> recommendation.getStudy().getId())
+                .collect(Collectors.toList());
+        return studyRepository.findWithTagsAndZonesByIds(studyIds);
+    }
+
+    @Override
+    public boolean supports(String eventType) {
+        return StudyCreatedEvent.class.getSimpleName().equals(eventType)
+                || StudyInterestsChangedEvent.class.getSimpleName().equals(eventType)
+                || AccountInterestsChangedEvent.class.getSimpleName().equals(eventType);
+    }
+
+    @Override
+    public void handle(OutboxEvent outboxEvent) {
+        if (AccountInterestsChangedEvent.class.getSimpleName().equals(outboxEvent.getEventType())) {
+            recommendTo(outboxEvent.getAggregateId());
+        } else {
+            recommend(outboxEvent.getAggregateId());
+        }
+    }
+
+    public void recommend(Long studyId) {
+        Study study = studyRepository.findStudyWithTagsAndZonesById(studyId);
+        if (study == null) {
+            return;
+        }
+        if (!study.isPublished() || study.isClosed()) {
+            withdraw(study);
+            return;
+        }
+
+        Set<Long> audience = new HashSet<>(studyRecommendationRepository.findAccountIdsToRecommend(study.getTags(), study.getZones()));
+        Set<Long> recommended = new HashSet<>(studyRecommendationRepository.findAccountIdsByStudyId(studyId));
+
+        Set<Long> withdrawn = new HashSet<>(recommended);
+        withdrawn.removeAll(audience);
+        audience.removeAll(recommended);
+
+        studyRecommendationRepository.deleteByStudyIdAndAccountIds(studyId, withdrawn);
+        studyRecommendationRepository.insertAll(studyId, study.getPublishedDateTime(), audience);
+    }
+
+    public void withdraw(Study study) {
+        studyRecommendationRepository.deleteByStudyId(study.getId());
+    }
+
+    public void recommendTo(Long accountId) {
+        Account account = accountRepository.findAccountWithTagsAndZonesById(accountId);
+        if (account == null) {
+            return;
+        }
+
+        List<StudyRecommendation> recommendations = studyRecommendationRepository.findRecommendationsForAccount(accountId, account.getTags(), account.getZones());
+        Set<Long> recommended = new HashSet<>(studyRecommendationRepository.findStudyIdsByAccountId(accountId));
+
+        Set<Long> withdrawn = new HashSet<>(recommended);
+        recommendations.forEach(recommendation -> withdrawn.remove(recommendation.getStudy().getId()));
+
+        studyRecommendationRepository.deleteByAccountIdAndStudyIds(accountId, withdrawn);
+        studyRecommendationRepository.saveAll(recommendations.stream()
+                .filter(recommendation -> !recommended.contains(recommendation.getStudy().getId()))
+                .collect(Collectors.toList()));
+    }
+}
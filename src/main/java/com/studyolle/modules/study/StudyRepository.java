@@ -3,6 +3,9 @@ package com.studyolle.modules.study;
 import com.studyolle.modules.account.Account;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
 import javax.persistence.NamedAttributeNode;
@@ -14,7 +17,6 @@ public interface StudyRepository extends JpaRepository<Study, Long>, StudyReposi
 
     boolean existsByPath(String path);
 
-    @EntityGraph(attributePaths = {"tags", "zones", "managers", "members"})
     Study findByPath(String path);
 
     @EntityGraph(attributePaths = {"tags", "managers"})
@@ -26,11 +28,10 @@ public interface StudyRepository extends JpaRepository<Study, Long>, StudyReposi
     @EntityGraph(attributePaths = "managers")
     Study findStudyWithManagersByPath(String path);
 
-    @EntityGraph(attributePaths = "members")
-    Study findStudyWithMembersByPath(String path);
-
     Study findStudyOnlyByPath(String path);
 
+    List<Study> findByImageStartingWith(String prefix);
+
     @EntityGraph(attributePaths = {"zones", "tags"})
     Study findStudyWithTagsAndZonesById(Long id);
 
@@ -43,4 +44,26 @@ public interface StudyRepository extends JpaRepository<Study, Long>, StudyReposi
     List<Study> findFirst5ByManagersContainingAndClosedOrderByPublishedDateTimeDesc(Account account, boolean closed);
 
     List<Study> findFirst5ByMembersContainingAndClosedOrderByPublishedDateTimeDesc(Account account, boolean closed);
+
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query(value = "update study set member_count = member_count + 1 where id = :studyId " +
+            "and not exists (select * from study_members where study_id = :studyId and members_id = :accountId)", nativeQuery = true)
+    int incrementMemberCount(@Param("studyId") Long studyId, @Param("accountId") Long accountId);
+
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query(value = "update study set member_count = member_count - 1 where id = :studyId " +
+            "and exists (select * from study_members where study_id = :studyId and members_id = :accountId)", nativeQuery = true)
+    int decrementMemberCount(@Param("studyId") Long studyId, @Param("accountId") Long accountId);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query(value = "insert ignore into study_members (study_id, members_id) values (:studyId, :accountId)", nativeQuery = true)
+    int insertMember(@Param("studyId") Long studyId, @Param("accountId") Long accountId);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query(value = "delete from study_members where study_id = :studyId and members_id = :accountId", nativeQuery = true)
+    int deleteMember(@Param("studyId") Long studyId, @Param("accountId") Long accountId);
 }
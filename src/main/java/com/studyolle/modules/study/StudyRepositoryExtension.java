@@ -1,18 +1,26 @@
 package com.studyolle.modules.study;
 
-import com.studyolle.modules.tag.Tag;
-import com.studyolle.modules.zone.Zone;
+import com.studyolle.modules.account.StudyUpdatedRecipient;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.Set;
 
 @Transactional(readOnly = true)
 public interface StudyRepositoryExtension {
 
     Page<Study> findByKeyword(String keyword, Pageable pageable);
 
-    List<Study> findByAccount(Set<Tag> tags, Set<Zone> zones);
+    List<Study> findWithTagsAndZonesByIds(List<Long> ids);
+
+    Study findStudyDetailByPath(String path);
+
+    List<StudyMember> findManagers(Long studyId);
+
+    List<StudyMember> findMembers(Long studyId, Long lastAccountId, int size);
+
+    boolean existsMember(Long studyId, Long accountId);
+
+    List<StudyUpdatedRecipient> findStudyUpdatedRecipients(Long studyId, Long lastAccountId, int size);
 }
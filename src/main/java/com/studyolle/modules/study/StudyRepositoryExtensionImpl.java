@@ -1,52 +1,139 @@
 package com.studyolle.modules.study;
 
-import com.querydsl.core.QueryResults;
-import com.querydsl.jpa.JPQLQuery;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.JPAExpressions;
+import com.studyolle.modules.account.QAccount;
+import com.studyolle.modules.account.StudyUpdatedRecipient;
 import com.studyolle.modules.tag.QTag;
-import com.studyolle.modules.tag.Tag;
 import com.studyolle.modules.zone.QZone;
-import com.studyolle.modules.zone.Zone;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 public class StudyRepositoryExtensionImpl extends QuerydslRepositorySupport implements StudyRepositoryExtension {
 
-    public StudyRepositoryExtensionImpl() {
+    private final StudySearchIndex studySearchIndex;
+
+    public StudyRepositoryExtensionImpl(StudySearchIndex studySearchIndex) {
         super(Study.class);
+        this.studySearchIndex = studySearchIndex;
     }
 
     @Override
     public Page<Study> findByKeyword(String keyword, Pageable pageable) {
-        QStudy study = QStudy.study;
-        JPQLQuery<Study> query = from(study).where(study.published.isTrue()
-                .and(study.title.containsIgnoreCase(keyword))
-                .or(study.tags.any().title.containsIgnoreCase(keyword))
-                .or(study.zones.any().localNameOfCity.containsIgnoreCase(keyword)))
-                .leftJoin(study.tags, QTag.tag).fetchJoin()
-                .leftJoin(study.zones, QZone.zone).fetchJoin()
-                .distinct();
-        JPQLQuery<Study> pageableQuery = getQuerydsl().applyPagination(pageable, query);
-        QueryResults<Study> fetchResults = pageableQuery.fetchResults();
-        return new PageImpl<>(fetchResults.getResults(), pageable, fetchResults.getTotal());
+        while (true) {
+            List<Long> studyIds = studySearchIndex.search(keyword, pageable.getSort());
+            List<Long> pageIds = pageable.isPaged()
+                    ? studyIds.subList((int) Math.min(pageable.getOffset(), studyIds.size()),
+                            (int) Math.min(pageable.getOffset() + pageable.getPageSize(), studyIds.size()))
+                    : studyIds;
+
+            List<Study> studies = findWithTagsAndZonesByIds(pageIds);
+            studies.removeIf(study -> !study.isPublished());
+            if (studies.size() == pageIds.size()) {
+                return new PageImpl<>(studies, pageable, studyIds.size());
+            }
+
+            Set<Long> found = studies.stream().map(Study::getId).collect(Collectors.toSet());
+            pageIds.stream().filter(id -> !found.contains(id)).forEach(studySearchIndex::evict);
+        }
     }
 
     @Override
-    public List<Study> findByAccount(Set<Tag> tags, Set<Zone> zones) {
+    public List<Study> findWithTagsAndZonesByIds(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+
         QStudy study = QStudy.study;
-        JPQLQuery<Study> query = from(study).where(study.published.isTrue()
-                .and(study.closed.isFalse())
-                .and(study.tags.any().in(tags))
-                .and(study.zones.any().in(zones)))
+        List<Study> studies = from(study).where(study.id.in(ids))
                 .leftJoin(study.tags, QTag.tag).fetchJoin()
                 .leftJoin(study.zones, QZone.zone).fetchJoin()
-                .orderBy(study.publishedDateTime.desc())
                 .distinct()
-                .limit(9);
-        return query.fetch();
+                .fetch();
+        Map<Long, Integer> positions = new HashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            positions.put(ids.get(i), i);
+        }
+        studies.sort(Comparator.comparingInt(s -> positions.get(s.getId())));
+        return studies;
+    }
+
+    @Override
+    public Study findStudyDetailByPath(String path) {
+        QStudy study = QStudy.study;
+        Study found = from(study).where(study.path.eq(path)).fetchOne();
+        if (found == null) {
+            return null;
+        }
+
+        from(study).leftJoin(study.tags, QTag.tag).fetchJoin().where(study.eq(found)).fetch();
+        from(study).leftJoin(study.zones, QZone.zone).fetchJoin().where(study.eq(found)).fetch();
+        from(study).leftJoin(study.managers, new QAccount("manager")).fetchJoin().where(study.eq(found)).fetch();
+        from(study).leftJoin(study.members, new QAccount("member")).fetchJoin().where(study.eq(found)).fetch();
+        return found;
+    }
+
+    @Override
+    public List<StudyMember> findManagers(Long studyId) {
+        QStudy study = QStudy.study;
+        QAccount manager = new QAccount("manager");
+        return from(study).join(study.managers, manager)
+                .select(Projections.constructor(StudyMember.class,
+                        manager.id, manager.nickname, manager.bio, manager.profileImage))
+                .where(study.id.eq(studyId))
+                .orderBy(manager.id.asc())
+                .fetch();
+    }
+
+    @Override
+    public List<StudyMember> findMembers(Long studyId, Long lastAccountId, int size) {
+        QStudy study = QStudy.study;
+        QAccount account = QAccount.account;
+        return from(study).join(study.members, account)
+                .select(Projections.constructor(StudyMember.class,
+                        account.id, account.nickname, account.bio, account.profileImage))
+                .where(study.id.eq(studyId), account.id.gt(lastAccountId))
+                .orderBy(account.id.asc())
+                .limit(size)
+                .fetch();
+    }
+
+    @Override
+    public boolean existsMember(Long studyId, Long accountId) {
+        QStudy study = QStudy.study;
+        QAccount account = QAccount.account;
+        return from(study).join(study.members, account)
+                .select(account.id)
+                .where(study.id.eq(studyId), account.id.eq(accountId))
+                .fetchFirst() != null;
+    }
+
+    @Override
+    public List<StudyUpdatedRecipient> findStudyUpdatedRecipients(Long studyId, Long lastAccountId, int size) {
+        QStudy study = QStudy.study;
+        QAccount account = QAccount.account;
+        QAccount manager = new QAccount("manager");
+        QAccount member = new QAccount("member");
+        return from(account)
+                .select(Projections.constructor(StudyUpdatedRecipient.class,
+                        account.id, account.email, account.nickname,
+                        account.studyUpdatedByEmail, account.studyUpdatedByWeb))
+                .where(account.id.in(JPAExpressions.select(manager.id).from(study).join(study.managers, manager).where(study.id.eq(studyId)))
+                                .or(account.id.in(JPAExpressions.select(member.id).from(study).join(study.members, member).where(study.id.eq(studyId)))),
+                        lastAccountId == null ? null : account.id.gt(lastAccountId),
+                        account.studyUpdatedByEmail.isTrue().or(account.studyUpdatedByWeb.isTrue()))
+                .orderBy(account.id.asc())
+                .limit(size)
+                .fetch();
     }
 }
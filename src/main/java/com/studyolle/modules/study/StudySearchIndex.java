@@ -0,0 +1,285 @@
+package com.studyolle.modules.study;
+
+import com.studyolle.modules.tag.Tag;
+import com.studyolle.modules.zone.Zone;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StudySearchIndex {
+
+    private static final int TITLE_SCORE = 4;
+    private static final int TAG_SCORE = 3;
+    private static final int ZONE_SCORE = 2;
+    private static final int SHORT_DESCRIPTION_SCORE = 1;
+
+    private final EntityManager entityManager;
+
+    private final Map<Long, Document> documents = new ConcurrentHashMap<>();
+
+    private final Map<String, Set<Long>> postings = new ConcurrentHashMap<>();
+
+    @Transactional(readOnly = true)
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${app.search.rebuild-interval:600000}", fixedDelayString = "${app.search.rebuild-interval:600000}")
+    public void rebuildIndex() {
+        Map<Long, Document> loaded = new HashMap<>();
+        entityManager.createQuery("select s.id, s.title, s.shortDescription, s.publishedDateTime, s.memberCount " +
+                        "from Study s where s.published = true", Object[].class)
+                .getResultList()
+                .forEach(row -> loaded.put((Long) row[0], new Document((String) row[1], (String) row[2],
+                        (LocalDateTime) row[3], (Integer) row[4])));
+        entityManager.createQuery("select s.id, t.title from Study s join s.tags t where s.published = true", Object[].class)
+                .getResultList()
+                .forEach(row -> {
+                    // A study published between the queries has no document yet; update() indexes it after its commit.
+                    Document document = loaded.get((Long) row[0]);
+                    if (document != null) {
+                        document.tags.add(normalize((String) row[1]));
+                    }
+                });
+        entityManager.createQuery("select s.id, z.localNameOfCity from Study s join s.zones z where s.published = true", Object[].class)
+                .getResultList()
+                .forEach(row -> {
+                    Document document = loaded.get((Long) row[0]);
+                    if (document != null) {
+                        document.zones.add(normalize((String) row[1]));
+                    }
+                });
+
+        documents.keySet().stream()
+                .filter(id -> !loaded.containsKey(id))
+                .collect(Collectors.toList())
+                .forEach(this::delete);
+        loaded.forEach(this::put);
+        log.info("indexed {} studies", loaded.size());
+    }
+
+    public void update(Study study) {
+        Long studyId = study.getId();
+        if (!study.isPublished()) {
+            afterCommit(() -> delete(studyId));
+            return;
+        }
+
+        Document document = new Document(study.getTitle(), study.getShortDescription(),
+                study.getPublishedDateTime(), study.getMemberCount());
+        study.getTags().stream().map(Tag::getTitle).map(StudySearchIndex::normalize).forEach(document.tags::add);
+        study.getZones().stream().map(Zone::getLocalNameOfCity).map(StudySearchIndex::normalize).forEach(document.zones::add);
+        afterCommit(() -> put(studyId, document));
+    }
+
+    public void remove(Long studyId) {
+        afterCommit(() -> delete(studyId));
+    }
+
+    public void addMemberCount(Long studyId, int delta) {
+        afterCommit(() -> {
+            Document document = documents.get(studyId);
+            if (document != null) {
+                document.memberCount.addAndGet(delta);
+            }
+        });
+    }
+
+    void evict(Long studyId) {
+        delete(studyId);
+    }
+
+    private synchronized void delete(Long studyId) {
+        Document removed = documents.remove(studyId);
+        if (removed != null) {
+            removed.grams().forEach(gram -> postings.computeIfPresent(gram, (key, ids) -> {
+                ids.remove(studyId);
+                return ids.isEmpty() ? null : ids;
+            }));
+        }
+    }
+
+    public List<Long> search(String keyword) {
+        return search(keyword, Sort.unsorted());
+    }
+
+    public List<Long> search(String keyword, Sort sort) {
+        Comparator<Hit> comparator = hitComparator(sort);
+        String normalized = normalize(keyword);
+        if (normalized.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<Hit> hits = new ArrayList<>();
+        for (Long id : findCandidates(normalized)) {
+            Document document = documents.get(id);
+            int score = document == null ? 0 : document.score(normalized);
+            if (score > 0) {
+                hits.add(new Hit(id, score, document.publishedDateTime, document.memberCount.get()));
+            }
+        }
+
+        hits.sort(comparator);
+        return hits.stream().map(hit -> hit.id).collect(Collectors.toList());
+    }
+
+    private static Comparator<Hit> hitComparator(Sort sort) {
+        Comparator<Hit> comparator = null;
+        for (Sort.Order order : sort) {
+            Comparator<Hit> byProperty;
+            if ("publishedDateTime".equals(order.getProperty())) {
+                byProperty = Comparator.comparing(hit -> hit.publishedDateTime, Comparator.nullsFirst(Comparator.<LocalDateTime>naturalOrder()));
+            } else if ("memberCount".equals(order.getProperty())) {
+                byProperty = Comparator.comparingInt(hit -> hit.memberCount);
+            } else {
+                throw new IllegalArgumentException("스터디 검색은 " + order.getProperty() + "(으)로 정렬할 수 없습니다.");
+            }
+            byProperty = order.isDescending() ? byProperty.reversed() : byProperty;
+            comparator = comparator == null ? byProperty : comparator.thenComparing(byProperty);
+        }
+
+        Comparator<Hit> byRelevance = Comparator.<Hit>comparingInt(hit -> hit.score).reversed()
+                .thenComparing(Comparator.<Hit, Long>comparing(hit -> hit.id).reversed());
+        return comparator == null ? byRelevance : comparator.thenComparing(byRelevance);
+    }
+
+    private synchronized void put(Long studyId, Document document) {
+        delete(studyId);
+        documents.put(studyId, document);
+        document.grams().forEach(gram -> postings.computeIfAbsent(gram, key -> ConcurrentHashMap.newKeySet()).add(studyId));
+    }
+
+    private void afterCommit(Runnable change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    change.run();
+                }
+            });
+        } else {
+            change.run();
+        }
+    }
+
+    private Set<Long> findCandidates(String keyword) {
+        if (keyword.length() == 1) {
+            return postings.getOrDefault(keyword, Collections.emptySet());
+        }
+
+        List<Set<Long>> postingLists = new ArrayList<>();
+        for (String gram : bigrams(keyword)) {
+            Set<Long> ids = postings.get(gram);
+            if (ids == null) {
+                return Collections.emptySet();
+            }
+            postingLists.add(ids);
+        }
+
+        postingLists.sort(Comparator.comparingInt(Set::size));
+        Set<Long> candidates = new HashSet<>(postingLists.get(0));
+        for (int i = 1; i < postingLists.size() && !candidates.isEmpty(); i++) {
+            candidates.retainAll(postingLists.get(i));
+        }
+        return candidates;
+    }
+
+    static String normalize(String text) {
+        return text == null ? "" : text.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static Set<String> bigrams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + 2 <= text.length(); i++) {
+            grams.add(text.substring(i, i + 2));
+        }
+        return grams;
+    }
+
+    private static class Document {
+
+        private final String title;
+
+        private final String shortDescription;
+
+        private final Set<String> tags = new HashSet<>();
+
+        private final Set<String> zones = new HashSet<>();
+
+        private final LocalDateTime publishedDateTime;
+
+        private final AtomicInteger memberCount;
+
+        private Document(String title, String shortDescription, LocalDateTime publishedDateTime, Integer memberCount) {
+            this.title = normalize(title);
+            this.shortDescription = normalize(shortDescription);
+            this.publishedDateTime = publishedDateTime;
+            this.memberCount = new AtomicInteger(memberCount == null ? 0 : memberCount);
+        }
+
+        private int score(String keyword) {
+            int score = 0;
+            if (title.contains(keyword)) {
+                score += TITLE_SCORE;
+            }
+            if (tags.stream().anyMatch(tag -> tag.contains(keyword))) {
+                score += TAG_SCORE;
+            }
+            if (zones.stream().anyMatch(zone -> zone.contains(keyword))) {
+                score += ZONE_SCORE;
+            }
+            if (shortDescription.contains(keyword)) {
+                score += SHORT_DESCRIPTION_SCORE;
+            }
+            return score;
+        }
+
+        private Set<String> grams() {
+            Set<String> grams = new HashSet<>();
+            addGrams(grams, title);
+            addGrams(grams, shortDescription);
+            tags.forEach(tag -> addGrams(grams, tag));
+            zones.forEach(zone -> addGrams(grams, zone));
+            return grams;
+        }
+
+        private static void addGrams(Set<String> grams, String text) {
+            grams.addAll(bigrams(text));
+            for (int i = 0; i < text.length(); i++) {
+                grams.add(text.substring(i, i + 1));
+            }
+        }
+    }
+
+    private static class Hit {
+
+        private final Long id;
+
+        private final int score;
+
+        private final LocalDateTime publishedDateTime;
+
+        private final int memberCount;
+
+        private Hit(Long id, int score, LocalDateTime publishedDateTime, int memberCount) {
+            this.id = id;
+            this.score = score;
+            this.publishedDateTime = publishedDateTime;
+            this.memberCount = memberCount;
+        }
+    }
+}
@@ -1,18 +1,24 @@
 package com.studyolle.modules.study;
 
+import com.studyolle.infra.image.ImageStore;
 import com.studyolle.modules.account.Account;
 import com.studyolle.modules.study.event.StudyCreatedEvent;
+import com.studyolle.modules.study.event.StudyInterestsChangedEvent;
 import com.studyolle.modules.study.event.StudyUpdateEvent;
 import com.studyolle.modules.tag.Tag;
 import com.studyolle.modules.zone.Zone;
 import com.studyolle.modules.study.form.StudyDescriptionForm;
 import lombok.RequiredArgsConstructor;
 import org.modelmapper.ModelMapper;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 import static com.studyolle.modules.study.form.StudyForm.VALID_PATH_PATTERN;
 
 @Service
@@ -20,9 +26,14 @@ import static com.studyolle.modules.study.form.StudyForm.VALID_PATH_PATTERN;
 @RequiredArgsConstructor
 public class StudyService {
 
+    public static final int MEMBER_PAGE_SIZE = 20;
+
     private final StudyRepository studyRepository;
     private final ModelMapper modelMapper;
     private final ApplicationEventPublisher eventPublisher;
+    private final StudySearchIndex studySearchIndex;
+    private final StudyRecommendationService studyRecommendationService;
+    private final ImageStore imageStore;
 
     public Study createNewStudy(Study study, Account account) {
         Study newStudy = studyRepository.save(study);
@@ -37,18 +48,49 @@ public class StudyService {
     }
 
     public Study getStudy(String path) {
-        Study study = this.studyRepository.findByPath(path);
+        Study study = this.studyRepository.findStudyDetailByPath(path);
         checkIfExistingStudy(path, study);
         return study;
     }
 
+    public Study getStudyToView(Account account, String path) {
+        Study study = studyRepository.findStudyWithManagersByPath(path);
+        checkIfExistingStudy(path, study);
+        return study;
+    }
+
+    public boolean isMember(Study study, Account account) {
+        return account != null && studyRepository.existsMember(study.getId(), account.getId());
+    }
+
+    public List<StudyMember> getManagers(Study study) {
+        return studyRepository.findManagers(study.getId());
+    }
+
+    public StudyMemberPage getMemberPage(Study study, Long lastAccountId) {
+        List<StudyMember> members = studyRepository.findMembers(study.getId(),
+                lastAccountId == null ? 0L : lastAccountId, MEMBER_PAGE_SIZE + 1);
+        if (members.size() > MEMBER_PAGE_SIZE) {
+            members = members.subList(0, MEMBER_PAGE_SIZE);
+            return new StudyMemberPage(members, members.get(MEMBER_PAGE_SIZE - 1).getId());
+        }
+        return new StudyMemberPage(members, null);
+    }
+
     public void updateStudyDescription(Study study, StudyDescriptionForm studyDescriptionForm) {
         modelMapper.map(studyDescriptionForm, study);
+        studySearchIndex.update(study);
         eventPublisher.publishEvent(new StudyUpdateEvent(study, "스터디 소개를 수정했습니다."));
     }
 
     public void updateStudyImage(Study study, String image) {
-        study.setImage(image);
+        study.setImage(imageStore.store(image));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateStudyImages() {
+        studyRepository.findByImageStartingWith("data:")
+                .forEach(study -> study.setImage(imageStore.store(study.getImage())));
     }
 
     public void enableStudyBanner(Study study) {
@@ -61,18 +103,26 @@ public class StudyService {
 
     public void addTag(Study study, Tag tag) {
         study.getTags().add(tag);
+        studySearchIndex.update(study);
+        refreshRecommendations(study);
     }
 
     public void removeTag(Study study, Tag tag) {
         study.getTags().remove(tag);
+        studySearchIndex.update(study);
+        refreshRecommendations(study);
     }
 
     public void addZone(Study study, Zone zone) {
         study.getZones().add(zone);
+        studySearchIndex.update(study);
+        refreshRecommendations(study);
     }
 
     public void removeZone(Study study, Zone zone) {
         study.getZones().remove(zone);
+        studySearchIndex.update(study);
+        refreshRecommendations(study);
     }
 
     public Study getStudyToUpdateTag(Account account, String path) {
@@ -96,6 +146,12 @@ public class StudyService {
         return study;
     }
 
+    private void refreshRecommendations(Study study) {
+        if (study.isPublished() && !study.isClosed()) {
+            eventPublisher.publishEvent(new StudyInterestsChangedEvent(study));
+        }
+    }
+
     private void checkIfManager(Account account, Study study) {
         if (!study.isManagedBy(account)) {
             throw new AccessDeniedException("해당 기능을 사용할 수 없습니다.");
@@ -110,11 +166,13 @@ public class StudyService {
 
     public void publish(Study study) {
         study.publish();
+        studySearchIndex.update(study);
         this.eventPublisher.publishEvent(new StudyCreatedEvent(study));
     }
 
     public void close(Study study) {
         study.close();
+        studyRecommendationService.withdraw(study);
         eventPublisher.publishEvent(new StudyUpdateEvent(study, "스터디를 종료했습니다."));
     }
 
@@ -146,22 +204,30 @@ public class StudyService {
 
     public void updateStudyTitle(Study study, String newTitle) {
         study.setTitle(newTitle);
+        studySearchIndex.update(study);
     }
 
     public void remove(Study study) {
         if (study.isRemovable()) {
             studyRepository.delete(study);
+            studySearchIndex.remove(study.getId());
         } else {
             throw new IllegalArgumentException("스터디를 삭제할 수 없습니다.");
         }
     }
 
     public void addMember(Study study, Account account) {
-        study.addMember(account);
+        if (studyRepository.incrementMemberCount(study.getId(), account.getId()) > 0) {
+            studyRepository.insertMember(study.getId(), account.getId());
+            studySearchIndex.addMemberCount(study.getId(), 1);
+        }
     }
 
     public void removeMember(Study study, Account account) {
-        study.removeMember(account);
+        if (studyRepository.decrementMemberCount(study.getId(), account.getId()) > 0) {
+            studyRepository.deleteMember(study.getId(), account.getId());
+            studySearchIndex.addMemberCount(study.getId(), -1);
+        }
     }
 
     public Study getStudyToEnroll(String path) {
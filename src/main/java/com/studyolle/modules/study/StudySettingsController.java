@@ -1,7 +1,6 @@
 package com.studyolle.modules.study;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.studyolle.infra.image.ImageStore;
 import com.studyolle.modules.account.CurrentAccount;
 import com.studyolle.modules.account.Account;
 import com.studyolle.modules.tag.Tag;
@@ -10,8 +9,8 @@ import com.studyolle.modules.tag.TagService;
 import com.studyolle.modules.tag.TagForm;
 import com.studyolle.modules.zone.ZoneForm;
 import com.studyolle.modules.study.form.StudyDescriptionForm;
-import com.studyolle.modules.tag.TagRepository;
-import com.studyolle.modules.zone.ZoneRepository;
+import com.studyolle.modules.tag.TagCache;
+import com.studyolle.modules.zone.ZoneCache;
 import lombok.RequiredArgsConstructor;
 import org.modelmapper.ModelMapper;
 import org.springframework.http.ResponseEntity;
@@ -24,7 +23,6 @@ import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 import javax.validation.Valid;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
-import java.util.List;
 import java.util.stream.Collectors;
 
 @Controller
@@ -36,9 +34,9 @@ public class StudySettingsController {
     private final StudyService studyService;
     private final ModelMapper modelMapper;
     private final TagService tagService;
-    private final TagRepository tagRepository;
-    private final ZoneRepository zoneRepository;
-    private final ObjectMapper objectMapper;
+    private final TagCache tagCache;
+    private final ZoneCache zoneCache;
+    private final ImageStore imageStore;
 
     @GetMapping("/description")
     public String viewStudySetting(@CurrentAccount Account account, @PathVariable String path, Model model) {
@@ -76,8 +74,15 @@ public class StudySettingsController {
 
     @PostMapping("/banner")
     public String studyImageSubmit(@CurrentAccount Account account, @PathVariable String path,
-                                   String image, RedirectAttributes attributes) {
+                                   String image, Model model, RedirectAttributes attributes) {
         Study study = studyService.getStudyToUpdate(account, path);
+        if (!imageStore.isValid(image)) {
+            model.addAttribute(account);
+            model.addAttribute(study);
+            model.addAttribute("message", "지원하지 않는 형식이거나 너무 큰 이미지입니다.");
+            return "study/settings/banner";
+        }
+
         studyService.updateStudyImage(study, image);
         attributes.addFlashAttribute("message", "스터디 이미지를 수정했습니다.");
         return "redirect:/study/" + study.getEncodedPath() + "/settings/banner";
@@ -102,17 +107,14 @@ public class StudySettingsController {
     }
 
     @GetMapping("/tags")
-    public String studyTagsForm(@CurrentAccount Account account, @PathVariable String path, Model model)
-            throws JsonProcessingException {
+    public String studyTagsForm(@CurrentAccount Account account, @PathVariable String path, Model model) {
         Study study = studyService.getStudyToUpdate(account, path);
         model.addAttribute(account);
         model.addAttribute(study);
 
         model.addAttribute("tags", study.getTags().stream()
                 .map(Tag::getTitle).collect(Collectors.toList()));
-        List<String> allTagTitles = tagRepository.findAll().stream()
-                .map(Tag::getTitle).collect(Collectors.toList());
-        model.addAttribute("whitelist", objectMapper.writeValueAsString(allTagTitles));
+        model.addAttribute("whitelist", TagCache.WHITELIST_URL);
         return "study/settings/tags";
     }
 
@@ -131,7 +133,7 @@ public class StudySettingsController {
     public ResponseEntity removeTag(@CurrentAccount Account account, @PathVariable String path,
                                     @RequestBody TagForm tagForm) {
         Study study = studyService.getStudyToUpdateTag(account, path);
-        Tag tag = tagRepository.findByTitle(tagForm.getTagTitle());
+        Tag tag = tagCache.findByTitle(tagForm.getTagTitle());
         if (tag == null) {
             return ResponseEntity.badRequest().build();
         }
@@ -141,15 +143,13 @@ public class StudySettingsController {
     }
 
     @GetMapping("/zones")
-    public String studyZonesForm(@CurrentAccount Account account, @PathVariable String path, Model model)
-            throws JsonProcessingException {
+    public String studyZonesForm(@CurrentAccount Account account, @PathVariable String path, Model model) {
         Study study = studyService.getStudyToUpdate(account, path);
         model.addAttribute(account);
         model.addAttribute(study);
         model.addAttribute("zones", study.getZones().stream()
                 .map(Zone::toString).collect(Collectors.toList()));
-        List<String> allZones = zoneRepository.findAll().stream().map(Zone::toString).collect(Collectors.toList());
-        model.addAttribute("whitelist", objectMapper.writeValueAsString(allZones));
+        model.addAttribute("whitelist", ZoneCache.WHITELIST_URL);
         return "study/settings/zones";
     }
 
@@ -158,7 +158,7 @@ public class StudySettingsController {
     public ResponseEntity addZone(@CurrentAccount Account account, @PathVariable String path,
                                   @RequestBody ZoneForm zoneForm) {
         Study study = studyService.getStudyToUpdateZone(account, path);
-        Zone zone = zoneRepository.findByCityAndProvince(zoneForm.getCityName(), zoneForm.getProvinceName());
+        Zone zone = zoneCache.findByCityAndProvince(zoneForm.getCityName(), zoneForm.getProvinceName());
         if (zone == null) {
             return ResponseEntity.badRequest().build();
         }
@@ -172,7 +172,7 @@ public class StudySettingsController {
     public ResponseEntity removeZone(@CurrentAccount Account account, @PathVariable String path,
                                      @RequestBody ZoneForm zoneForm) {
         Study study = studyService.getStudyToUpdateZone(account, path);
-        Zone zone = zoneRepository.findByCityAndProvince(zoneForm.getCityName(), zoneForm.getProvinceName());
+        Zone zone = zoneCache.findByCityAndProvince(zoneForm.getCityName(), zoneForm.getProvinceName());
         if (zone == null) {
             return ResponseEntity.badRequest().build();
         }
@@ -1,78 +1,121 @@
 package com.studyolle.modules.study.event;
 
-import com.studyolle.infra.config.AppProperties;
 import com.studyolle.infra.mail.EmailMessage;
 import com.studyolle.infra.mail.EmailService;
+import com.studyolle.infra.mail.MailTemplateRenderer;
+import com.studyolle.infra.mail.SimpleLinkMailTemplate;
+import com.studyolle.infra.outbox.OutboxEvent;
+import com.studyolle.infra.outbox.OutboxEventHandler;
 import com.studyolle.modules.account.Account;
-import com.studyolle.modules.account.AccountPredicates;
 import com.studyolle.modules.account.AccountRepository;
+import com.studyolle.modules.account.StudyCreatedRecipient;
+import com.studyolle.modules.account.StudyUpdatedRecipient;
 import com.studyolle.modules.notification.Notification;
-import com.studyolle.modules.notification.NotificationRepository;
+import com.studyolle.modules.notification.NotificationBatchWriter;
 import com.studyolle.modules.notification.NotificationType;
+import com.studyolle.modules.notification.UnreadNotificationCounter;
 import com.studyolle.modules.study.Study;
 import com.studyolle.modules.study.StudyRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
-import org.thymeleaf.TemplateEngine;
-import org.thymeleaf.context.Context;
 
 import java.time.LocalDateTime;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.ArrayList;
+import java.util.List;
 
 @Slf4j
-@Async
 @Transactional
 @Component
 @RequiredArgsConstructor
-public class StudyEventListener {
+public class StudyEventListener implements OutboxEventHandler {
+
+    private static final int RECIPIENT_CHUNK_SIZE = 500;
 
     private final StudyRepository studyRepository;
     private final AccountRepository accountRepository;
     private final EmailService emailService;
-    private final TemplateEngine templateEngine;
-    private final AppProperties appProperties;
-    private final NotificationRepository notificationRepository;
-
-    @EventListener
-    public void handleStudyCreatedEvent(StudyCreatedEvent studyCreatedEvent) {
-        Study study = studyRepository.findStudyWithTagsAndZonesById(studyCreatedEvent.getStudy().getId());
-        Iterable<Account> accounts = accountRepository.findAll(AccountPredicates.findByTagsAndZones(study.getTags(), study.getZones()));
-        accounts.forEach(account -> {
-            if(account.isStudyCreatedByEmail()) {
-                sendStudyCreatedEmail(study, account, "새로운 스터디가 생겼습니다",
+    private final MailTemplateRenderer mailTemplateRenderer;
+    private final NotificationBatchWriter notificationBatchWriter;
+    private final UnreadNotificationCounter unreadNotificationCounter;
+
+    @Override
+    public boolean supports(String eventType) {
+        return StudyCreatedEvent.class.getSimpleName().equals(eventType)
+                || StudyUpdateEvent.class.getSimpleName().equals(eventType);
+    }
+
+    @Override
+    public void handle(OutboxEvent outboxEvent) {
+        if (StudyCreatedEvent.class.getSimpleName().equals(outboxEvent.getEventType())) {
+            handleStudyCreatedEvent(outboxEvent);
+        } else {
+            handleStudyUpdateEvent(outboxEvent);
+        }
+    }
+
+    private void handleStudyCreatedEvent(OutboxEvent outboxEvent) {
+        Study study = studyRepository.findStudyWithTagsAndZonesById(outboxEvent.getAggregateId());
+        if (study == null) {
+            return;
+        }
+
+        SimpleLinkMailTemplate mailTemplate = simpleLinkMailTemplate(study, "새로운 스터디가 생겼습니다");
+        List<StudyCreatedRecipient> recipients = accountRepository.findStudyCreatedRecipients(
+                study.getTags(), study.getZones(), outboxEvent.getResumeAfter(), RECIPIENT_CHUNK_SIZE);
+        List<Notification> notifications = new ArrayList<>();
+        recipients.forEach(recipient -> {
+            if(recipient.isStudyCreatedByEmail()) {
+                sendStudyCreatedEmail(mailTemplate, recipient.getEmail(), recipient.getNickname(),
                         "스터디올래, '" + study.getTitle() + "' 스터디가 생겼습니다.");
             }
-            if(account.isStudyCreatedByWeb()) {
-                createNotification(study, account, study.getShortDescription(), NotificationType.STUDY_CREATED);
+            if(recipient.isStudyCreatedByWeb()) {
+                notifications.add(createNotification(study, accountRepository.getById(recipient.getId()),
+                        study.getShortDescription(), NotificationType.STUDY_CREATED));
             }
         });
+        saveNotifications(notifications);
+
+        if (recipients.size() == RECIPIENT_CHUNK_SIZE) {
+            outboxEvent.continueAfter(recipients.get(recipients.size() - 1).getId());
+        }
     }
 
-    @EventListener
-    public void handleStudyUpdateEvent(StudyUpdateEvent studyUpdateEvent) {
-        Study study = studyRepository.findStudyWithManagersAndMembersById(studyUpdateEvent.getStudy().getId());
-        Set<Account>  accounts = new HashSet<>();
-        accounts.addAll(study.getManagers());
-        accounts.addAll(study.getMembers());
+    private void handleStudyUpdateEvent(OutboxEvent outboxEvent) {
+        Study study = studyRepository.findById(outboxEvent.getAggregateId()).orElse(null);
+        if (study == null) {
+            return;
+        }
 
-        accounts.forEach(account -> {
-            if(account.isStudyUpdatedByEmail()) {
-                sendStudyCreatedEmail(study, account, studyUpdateEvent.getMessage(),
+        SimpleLinkMailTemplate mailTemplate = simpleLinkMailTemplate(study, outboxEvent.getMessage());
+        List<StudyUpdatedRecipient> recipients = studyRepository.findStudyUpdatedRecipients(
+                study.getId(), outboxEvent.getResumeAfter(), RECIPIENT_CHUNK_SIZE);
+        List<Notification> notifications = new ArrayList<>();
+        recipients.forEach(recipient -> {
+            if(recipient.isStudyUpdatedByEmail()) {
+                sendStudyCreatedEmail(mailTemplate, recipient.getEmail(), recipient.getNickname(),
                         "스터디올래, '" + study.getTitle() + "' 스터디에 새소식이 있습니다.");
             }
 
-            if(account.isStudyUpdatedByWeb()) {
-                createNotification(study, account, studyUpdateEvent.getMessage(), NotificationType.STUDY_UPDATED);
+            if(recipient.isStudyUpdatedByWeb()) {
+                notifications.add(createNotification(study, accountRepository.getById(recipient.getId()),
+                        outboxEvent.getMessage(), NotificationType.STUDY_UPDATED));
             }
         });
+        saveNotifications(notifications);
+
+        if (recipients.size() == RECIPIENT_CHUNK_SIZE) {
+            outboxEvent.continueAfter(recipients.get(recipients.size() - 1).getId());
+        }
     }
 
-    private void createNotification(Study study, Account account, String message, NotificationType notificationType) {
+    private void saveNotifications(List<Notification> notifications) {
+        notificationBatchWriter.write(notifications);
+        notifications.forEach(notification -> unreadNotificationCounter.increment(notification.getAccount().getId()));
+    }
+
+    private Notification createNotification(Study study, Account account, String message, NotificationType notificationType) {
         Notification notification = new Notification();
         notification.setTitle(study.getTitle());
         notification.setLink("/study/" + study.getEncodedPath());
@@ -81,22 +124,18 @@ public class StudyEventListener {
         notification.setMessage(message);
         notification.setAccount(account);
         notification.setNotificationType(notificationType);
-        notificationRepository.save(notification);
+        return notification;
     }
 
-    private void sendStudyCreatedEmail(Study study, Account account, String contextMessage, String emailSubject) {
-        Context context = new Context();
-        context.setVariable("nickname", account.getNickname());
-        context.setVariable("link", "/study/" + study.getEncodedPath());
-        context.setVariable("linkName", study.getTitle());
-        context.setVariable("message", contextMessage);
-        context.setVariable("host", appProperties.getHost());
-        String message = templateEngine.process("mail/simple-link", context);
+    private SimpleLinkMailTemplate simpleLinkMailTemplate(Study study, String contextMessage) {
+        return mailTemplateRenderer.simpleLink("/study/" + study.getEncodedPath(), study.getTitle(), contextMessage);
+    }
 
+    private void sendStudyCreatedEmail(SimpleLinkMailTemplate mailTemplate, String email, String nickname, String emailSubject) {
         EmailMessage emailMessage = EmailMessage.builder()
                 .subject(emailSubject)
-                .to(account.getEmail())
-                .message(message)
+                .to(email)
+                .message(mailTemplate.render(nickname))
                 .build();
 
         emailService.sendEmail(emailMessage);
@@ -0,0 +1,23 @@
+package com.studyolle.modules.study.event;
+
+import com.studyolle.infra.outbox.OutboxMessage;
+import com.studyolle.modules.study.Study;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class StudyInterestsChangedEvent implements OutboxMessage {
+
+    private final Study study;
+
+    @Override
+    public Long getAggregateId() {
+        return study.getId();
+    }
+
+    @Override
+    public String getMessage() {
+        return null;
+    }
+}
@@ -1,16 +1,20 @@
 package com.studyolle.modules.study.event;
 
+import com.studyolle.infra.outbox.OutboxMessage;
 import com.studyolle.modules.study.Study;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
-import org.springframework.context.ApplicationEvent;
 
 @Getter
 @RequiredArgsConstructor
-public class StudyUpdateEvent {
+public class StudyUpdateEvent implements OutboxMessage {
 
     private final Study study;
 
     private final String message;
 
+    @Override
+    public Long getAggregateId() {
+        return study.getId();
+    }
 }
@@ -0,0 +1,103 @@
+package com.studyolle.modules.tag;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.studyolle.infra.web.JsonPayload;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TagCache {
+
+    public static final String WHITELIST_URL = "/tags/whitelist";
+
+    private final TagRepository tagRepository;
+    private final ObjectMapper objectMapper;
+
+    private final Map<String, Tag> tagsByTitle = new ConcurrentHashMap<>();
+
+    private final AtomicLong version = new AtomicLong();
+
+    private volatile Whitelist whitelist;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initCache() {
+        tagRepository.findAll().forEach(this::put);
+        log.info("cached {} tags", tagsByTitle.size());
+    }
+
+    public Tag get(String title) {
+        return tagsByTitle.get(title);
+    }
+
+    public Tag findByTitle(String title) {
+        Tag tag = tagsByTitle.get(title);
+        if (tag == null) {
+            tag = tagRepository.findByTitle(title);
+            if (tag != null) {
+                putAfterCommit(tag);
+            }
+        }
+        return tag;
+    }
+
+    public Tag put(Tag tag) {
+        Tag cached = Tag.builder().id(tag.getId()).title(tag.getTitle()).build();
+        Tag existing = tagsByTitle.putIfAbsent(cached.getTitle(), cached);
+        if (existing != null) {
+            return existing;
+        }
+        version.incrementAndGet();
+        return cached;
+    }
+
+    public JsonPayload getWhitelist() {
+        long current = version.get();
+        Whitelist cached = whitelist;
+        if (cached == null || cached.version != current) {
+            cached = new Whitelist(current, JsonPayload.of(objectMapper, tagsByTitle.values().stream()
+                    .sorted(Comparator.comparing(Tag::getId))
+                    .map(Tag::getTitle)
+                    .collect(Collectors.toList())));
+            whitelist = cached;
+        }
+        return cached.payload;
+    }
+
+    public void putAfterCommit(Tag tag) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    put(tag);
+                }
+            });
+        } else {
+            put(tag);
+        }
+    }
+
+    private static class Whitelist {
+
+        private final long version;
+
+        private final JsonPayload payload;
+
+        private Whitelist(long version, JsonPayload payload) {
+            this.version = version;
+            this.payload = payload;
+        }
+    }
+}
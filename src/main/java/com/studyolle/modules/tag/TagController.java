@@ -0,0 +1,20 @@
+package com.studyolle.modules.tag;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ResponseBody;
+
+@Controller
+@RequiredArgsConstructor
+public class TagController {
+
+    private final TagCache tagCache;
+
+    @GetMapping(TagCache.WHITELIST_URL)
+    @ResponseBody
+    public ResponseEntity<byte[]> whitelist() {
+        return tagCache.getWhitelist().toResponseEntity();
+    }
+}
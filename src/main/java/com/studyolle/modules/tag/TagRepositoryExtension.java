@@ -0,0 +1,10 @@
+package com.studyolle.modules.tag;
+
+import org.springframework.transaction.annotation.Transactional;
+
+@Transactional(readOnly = true)
+public interface TagRepositoryExtension {
+
+    @Transactional
+    Tag findOrInsert(String title);
+}
@@ -0,0 +1,33 @@
+package com.studyolle.modules.tag;
+
+import org.hibernate.engine.spi.SessionImplementor;
+import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
+
+import javax.persistence.EntityManager;
+import javax.persistence.LockModeType;
+import java.io.Serializable;
+
+public class TagRepositoryExtensionImpl extends QuerydslRepositorySupport implements TagRepositoryExtension {
+
+    public TagRepositoryExtensionImpl() {
+        super(Tag.class);
+    }
+
+    @Override
+    public Tag findOrInsert(String title) {
+        EntityManager entityManager = getEntityManager();
+        Tag tag = Tag.builder().title(title).build();
+        SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+        Serializable id = session.getEntityPersister(Tag.class.getName(), tag).getIdentifierGenerator().generate(session, tag);
+
+        entityManager.createNativeQuery("insert ignore into tag (id, title) values (:id, :title)")
+                .setParameter("id", id)
+                .setParameter("title", title)
+                .executeUpdate();
+
+        return entityManager.createQuery("select t from Tag t where t.title = :title", Tag.class)
+                .setParameter("title", title)
+                .setLockMode(LockModeType.PESSIMISTIC_READ)
+                .getSingleResult();
+    }
+}
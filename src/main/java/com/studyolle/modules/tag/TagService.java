@@ -9,14 +9,16 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class TagService {
 
+    private final TagCache tagCache;
     private final TagRepository tagRepository;
 
     public Tag findOrCreateNew(String tagTitle) {
-        Tag tag = tagRepository.findByTitle(tagTitle);
+        Tag tag = tagCache.findByTitle(tagTitle);
         if (tag == null) {
-            tag = tagRepository.save(Tag.builder().title(tagTitle).build());
+            tag = tagRepository.findOrInsert(tagTitle);
+            tagCache.putAfterCommit(tag);
         }
         return tag;
     }
 
-}
\ No newline at end of file
+}
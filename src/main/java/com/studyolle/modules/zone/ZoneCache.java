@@ -0,0 +1,62 @@
+package com.studyolle.modules.zone;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.studyolle.infra.web.JsonPayload;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ZoneCache {
+
+    public static final String WHITELIST_URL = "/zones/whitelist";
+
+    private final ZoneRepository zoneRepository;
+    private final ObjectMapper objectMapper;
+
+    private volatile Map<String, Zone> zonesByName = Map.of();
+
+    private volatile JsonPayload whitelist;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void initCache() {
+        List<Zone> zones = zoneRepository.findAll();
+        Map<String, Zone> loaded = new HashMap<>();
+        zones.forEach(zone -> loaded.put(key(zone.getCity(), zone.getProvince()), Zone.builder()
+                .id(zone.getId())
+                .city(zone.getCity())
+                .localNameOfCity(zone.getLocalNameOfCity())
+                .province(zone.getProvince())
+                .build()));
+        zonesByName = loaded;
+        whitelist = JsonPayload.of(objectMapper, zones.stream().map(Zone::toString).collect(Collectors.toList()));
+        log.info("cached {} zones", loaded.size());
+    }
+
+    public Zone findByCityAndProvince(String cityName, String provinceName) {
+        Zone zone = zonesByName.get(key(cityName, provinceName));
+        return zone != null ? zone : zoneRepository.findByCityAndProvince(cityName, provinceName);
+    }
+
+    public JsonPayload getWhitelist() {
+        JsonPayload payload = whitelist;
+        if (payload == null) {
+            initCache();
+            payload = whitelist;
+        }
+        return payload;
+    }
+
+    private static String key(String cityName, String provinceName) {
+        return cityName + "/" + provinceName;
+    }
+}
@@ -0,0 +1,20 @@
+package com.studyolle.modules.zone;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ResponseBody;
+
+@Controller
+@RequiredArgsConstructor
+public class ZoneController {
+
+    private final ZoneCache zoneCache;
+
+    @GetMapping(ZoneCache.WHITELIST_URL)
+    @ResponseBody
+    public ResponseEntity<byte[]> whitelist() {
+        return zoneCache.getWhitelist().toResponseEntity();
+    }
+}
@@ -0,0 +1,29 @@
+package com.studyolle.infra;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+
+public class MutableClock extends Clock {
+
+    public Instant instant;
+
+    public MutableClock(Instant instant) {
+        this.instant = instant;
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return ZoneId.systemDefault();
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+        return this;
+    }
+
+    @Override
+    public Instant instant() {
+        return instant;
+    }
+}
@@ -0,0 +1,137 @@
+package com.studyolle.infra.image;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.util.unit.DataSize;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+class ImageStoreTest {
+
+    @TempDir
+    Path directory;
+
+    ImageProperties imageProperties;
+    ImageStore imageStore;
+    MockMvc mockMvc;
+
+    @BeforeEach
+    void beforeEach() throws IOException {
+        imageProperties = new ImageProperties();
+        imageProperties.setDirectory(directory);
+        imageStore = new ImageStore(imageProperties);
+        imageStore.createDirectory();
+        mockMvc = MockMvcBuilders.standaloneSetup(new ImageController(imageStore, imageProperties)).build();
+    }
+
+    @DisplayName("data URL 이미지를 내용 해시 이름의 파일로 한 번만 저장한다.")
+    @Test
+    void store() throws IOException {
+        byte[] png = png(800, 400);
+        String url = imageStore.store(dataUrl(png));
+
+        assertTrue(url.matches(ImageStore.URL_PREFIX + "[0-9a-f]{64}\\.png"));
+        assertEquals(url, imageStore.store(dataUrl(png)));
+        assertEquals(url, imageStore.store(url));
+        assertArrayEquals(png, Files.readAllBytes(directory.resolve(url.substring(ImageStore.URL_PREFIX.length()))));
+        try (var files = Files.list(directory)) {
+            assertEquals(1, files.count());
+        }
+        assertNull(imageStore.store(""));
+        assertThrows(IllegalArgumentException.class, () -> imageStore.store("data:text/html;base64,PGgxPg=="));
+    }
+
+    @DisplayName("저장한 이미지를 오래 캐시하도록 내려주고 ETag가 같으면 304로 응답한다.")
+    @Test
+    void serve() throws Exception {
+        byte[] png = png(100, 50);
+        String url = imageStore.store(dataUrl(png));
+        String eTag = "\"" + url.substring(ImageStore.URL_PREFIX.length()) + "\"";
+
+        mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("image/png"))
+                .andExpect(content().bytes(png))
+                .andExpect(header().string("ETag", eTag))
+                .andExpect(header().string("Cache-Control", "max-age=31536000, public, immutable"));
+
+        mockMvc.perform(get(url).header("If-None-Match", eTag))
+                .andExpect(status().isNotModified());
+
+        mockMvc.perform(get(ImageStore.URL_PREFIX + "0000.png"))
+                .andExpect(status().isNotFound());
+    }
+
+    @DisplayName("목록 카드용 썸네일은 처음 요청할 때 만들어 저장해 둔다.")
+    @Test
+    void thumbnail() throws Exception {
+        String url = imageStore.store(dataUrl(png(800, 400)));
+        String thumbnailUrl = ImageStore.thumbnailUrlOf(url);
+        assertEquals("/images/default_banner.png", ImageStore.thumbnailUrlOf("/images/default_banner.png"));
+
+        MvcResult result = mockMvc.perform(get(thumbnailUrl))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        BufferedImage thumbnail = ImageIO.read(new ByteArrayInputStream(result.getResponse().getContentAsByteArray()));
+        assertEquals(350, thumbnail.getWidth());
+        assertEquals(175, thumbnail.getHeight());
+        assertTrue(Files.exists(directory.resolve(thumbnailUrl.substring(ImageStore.URL_PREFIX.length()))));
+    }
+
+    @DisplayName("형식, 용량, 크기가 허용 범위를 벗어난 이미지는 유효하지 않다.")
+    @Test
+    void isValid() throws IOException {
+        imageProperties.setMaxWidth(1000);
+        imageProperties.setMaxHeight(1000);
+
+        assertTrue(imageStore.isValid(null));
+        assertTrue(imageStore.isValid(dataUrl(png(800, 400))));
+        assertTrue(imageStore.isValid(imageStore.store(dataUrl(png(100, 50)))));
+        assertFalse(imageStore.isValid("data:text/html;base64,PGgxPg=="));
+        assertFalse(imageStore.isValid("data:image/png;base64,not-an-image"));
+        assertFalse(imageStore.isValid("data:image/png;base64,PGgxPg=="));
+        assertFalse(imageStore.isValid(dataUrl(png(1200, 400))));
+
+        imageProperties.setMaxSize(DataSize.ofBytes(10));
+        assertFalse(imageStore.isValid(dataUrl(png(100, 50))));
+    }
+
+    @DisplayName("허용 크기를 넘는 원본은 디코딩하지 않고 그대로 썸네일로 쓴다.")
+    @Test
+    void thumbnail_of_oversized_image() throws Exception {
+        byte[] png = png(800, 400);
+        String url = imageStore.store(dataUrl(png));
+        imageProperties.setMaxWidth(500);
+
+        mockMvc.perform(get(ImageStore.thumbnailUrlOf(url)))
+                .andExpect(status().isOk())
+                .andExpect(content().bytes(png));
+    }
+
+    private byte[] png(int width, int height) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB), "png", out);
+        return out.toByteArray();
+    }
+
+    private String dataUrl(byte[] bytes) {
+        return "data:image/png;base64," + Base64.getEncoder().encodeToString(bytes);
+    }
+}
@@ -0,0 +1,213 @@
+package com.studyolle.infra.mail;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.mail.internet.MimeMessage;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HtmlEmailServiceTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    HtmlEmailService htmlEmailService;
+
+    @AfterEach
+    void afterEach() throws InterruptedException {
+        htmlEmailService.stop();
+    }
+
+    @DisplayName("큐에 쌓인 메일을 묶어서 발송")
+    @Test
+    void sendEmail() throws InterruptedException {
+        JavaMailSenderImpl javaMailSender = new JavaMailSenderImpl();
+        javaMailSender.setHost("localhost");
+        javaMailSender.setPort(ServerSetupTest.SMTP.getPort());
+        javaMailSender.getJavaMailProperties().setProperty("mail.smtp.localhost", "localhost");
+        javaMailSender.getJavaMailProperties().setProperty("mail.from", "studyolle@localhost");
+        htmlEmailService = createEmailService(javaMailSender);
+
+        for (int i = 0; i < 30; i++) {
+            htmlEmailService.sendEmail(createEmailMessage("aiden" + i + "@email.com"));
+        }
+
+        assertTrue(greenMail.waitForIncomingEmail(30_000, 30));
+        assertEquals(30, greenMail.getReceivedMessages().length);
+        waitUntilSent(30);
+        assertEquals(0, htmlEmailService.getFailedCount());
+        assertEquals(0, htmlEmailService.getRejectedCount());
+    }
+
+    @DisplayName("발송에 실패한 메일은 다시 시도")
+    @Test
+    void sendEmail_retry() throws InterruptedException {
+        AtomicInteger attempts = new AtomicInteger();
+        JavaMailSender javaMailSender = new JavaMailSenderImpl() {
+            @Override
+            public void send(MimeMessage... mimeMessages) {
+                if (attempts.incrementAndGet() == 1) {
+                    throw new MailSendException("connection refused");
+                }
+            }
+        };
+        htmlEmailService = createEmailService(javaMailSender);
+
+        htmlEmailService.sendEmail(createEmailMessage("aiden@email.com"));
+
+        waitUntilSent(1);
+        assertEquals(1, htmlEmailService.getRetriedCount());
+        assertEquals(0, htmlEmailService.getFailedCount());
+        assertEquals(2, attempts.get());
+    }
+
+    @DisplayName("큐가 가득 차면 메일을 버리지 않고 자리가 날 때까지 기다린다.")
+    @Test
+    void sendEmail_queue_full() throws Exception {
+        CountDownLatch sending = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        JavaMailSender javaMailSender = new JavaMailSenderImpl() {
+            @Override
+            public void send(MimeMessage... mimeMessages) {
+                sending.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        EmailProperties emailProperties = createEmailProperties();
+        emailProperties.setQueueCapacity(1);
+        emailProperties.setSenderThreads(1);
+        emailProperties.setBatchSize(1);
+        htmlEmailService = createEmailService(javaMailSender, emailProperties);
+
+        htmlEmailService.sendEmail(createEmailMessage("first@email.com"));
+        assertTrue(sending.await(30, TimeUnit.SECONDS));
+        htmlEmailService.sendEmail(createEmailMessage("second@email.com"));
+
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        Future<?> third = executorService.submit(() -> htmlEmailService.sendEmail(createEmailMessage("third@email.com")));
+        Thread.sleep(200);
+        assertFalse(third.isDone());
+
+        release.countDown();
+        third.get(30, TimeUnit.SECONDS);
+        executorService.shutdown();
+        waitUntilSent(3);
+        assertEquals(0, htmlEmailService.getRejectedCount());
+    }
+
+    @DisplayName("트랜잭션 안에서 보낸 메일은 커밋된 뒤에만 큐에 넣는다.")
+    @Test
+    void sendEmail_after_commit() throws InterruptedException {
+        AtomicInteger sent = new AtomicInteger();
+        JavaMailSender javaMailSender = new JavaMailSenderImpl() {
+            @Override
+            public void send(MimeMessage... mimeMessages) {
+                sent.addAndGet(mimeMessages.length);
+            }
+        };
+        htmlEmailService = createEmailService(javaMailSender);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            htmlEmailService.sendEmail(createEmailMessage("rolledback@email.com"));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            htmlEmailService.sendEmail(createEmailMessage("committed@email.com"));
+            assertEquals(0, htmlEmailService.getQueueSize());
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        waitUntilSent(1);
+        htmlEmailService.stop();
+        assertEquals(1, sent.get());
+    }
+
+    @DisplayName("종료할 때 재시도를 기다리는 메일도 발송")
+    @Test
+    void stop_drains_pending_retries() throws InterruptedException {
+        AtomicInteger attempts = new AtomicInteger();
+        JavaMailSender javaMailSender = new JavaMailSenderImpl() {
+            @Override
+            public void send(MimeMessage... mimeMessages) {
+                if (attempts.incrementAndGet() == 1) {
+                    throw new MailSendException("connection refused");
+                }
+            }
+        };
+        EmailProperties emailProperties = createEmailProperties();
+        emailProperties.setRetryBackoff(Duration.ofMinutes(10));
+        htmlEmailService = createEmailService(javaMailSender, emailProperties);
+
+        htmlEmailService.sendEmail(createEmailMessage("aiden@email.com"));
+        long deadline = System.currentTimeMillis() + 30_000;
+        while (htmlEmailService.getRetriedCount() < 1 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        htmlEmailService.stop();
+
+        assertEquals(1, htmlEmailService.getSentCount());
+        assertEquals(0, htmlEmailService.getFailedCount());
+    }
+
+    private HtmlEmailService createEmailService(JavaMailSender javaMailSender) {
+        return createEmailService(javaMailSender, createEmailProperties());
+    }
+
+    private EmailProperties createEmailProperties() {
+        EmailProperties emailProperties = new EmailProperties();
+        emailProperties.setBatchSize(10);
+        emailProperties.setRetryBackoff(Duration.ofMillis(10));
+        return emailProperties;
+    }
+
+    private HtmlEmailService createEmailService(JavaMailSender javaMailSender, EmailProperties emailProperties) {
+        HtmlEmailService emailService = new HtmlEmailService(javaMailSender, emailProperties);
+        emailService.start();
+        return emailService;
+    }
+
+    private EmailMessage createEmailMessage(String to) {
+        return EmailMessage.builder()
+                .to(to)
+                .subject("스터디올래 테스트")
+                .message("<p>테스트 메일</p>")
+                .build();
+    }
+
+    private void waitUntilSent(long count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 30_000;
+        while (htmlEmailService.getSentCount() < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(count, htmlEmailService.getSentCount());
+    }
+}
@@ -0,0 +1,63 @@
+package com.studyolle.infra.mail;
+
+import com.studyolle.infra.config.AppProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.spring5.SpringTemplateEngine;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class MailTemplateRendererTest {
+
+    TemplateEngine templateEngine;
+
+    MailTemplateRenderer mailTemplateRenderer;
+
+    @BeforeEach
+    void beforeEach() {
+        ClassLoaderTemplateResolver templateResolver = new ClassLoaderTemplateResolver();
+        templateResolver.setPrefix("templates/");
+        templateResolver.setSuffix(".html");
+        templateResolver.setTemplateMode(TemplateMode.HTML);
+        templateResolver.setCharacterEncoding("UTF-8");
+        templateEngine = new SpringTemplateEngine();
+        templateEngine.setTemplateResolver(templateResolver);
+
+        AppProperties appProperties = new AppProperties();
+        appProperties.setHost("http://localhost:8080");
+        mailTemplateRenderer = new MailTemplateRenderer(templateEngine, appProperties);
+    }
+
+    @DisplayName("미리 렌더링한 템플릿에 닉네임만 채워도 결과가 같다.")
+    @Test
+    void simpleLink() {
+        SimpleLinkMailTemplate mailTemplate = mailTemplateRenderer.simpleLink("/study/spring", "Spring 스터디", "새로운 스터디가 생겼습니다");
+
+        assertEquals(process("aiden", "/study/spring", "Spring 스터디", "새로운 스터디가 생겼습니다"), mailTemplate.render("aiden"));
+        assertEquals(process("<b>&</b>", "/study/spring", "Spring 스터디", "새로운 스터디가 생겼습니다"), mailTemplate.render("<b>&</b>"));
+    }
+
+    @DisplayName("같은 링크와 메시지는 템플릿을 재사용")
+    @Test
+    void simpleLink_cached() {
+        SimpleLinkMailTemplate mailTemplate = mailTemplateRenderer.simpleLink("/study/spring", "Spring 스터디", "스터디를 종료했습니다.");
+
+        assertSame(mailTemplate, mailTemplateRenderer.simpleLink("/study/spring", "Spring 스터디", "스터디를 종료했습니다."));
+    }
+
+    private String process(String nickname, String link, String linkName, String message) {
+        Context context = new Context();
+        context.setVariable("nickname", nickname);
+        context.setVariable("link", link);
+        context.setVariable("linkName", linkName);
+        context.setVariable("message", message);
+        context.setVariable("host", "http://localhost:8080");
+        return templateEngine.process("mail/simple-link", context);
+    }
+}
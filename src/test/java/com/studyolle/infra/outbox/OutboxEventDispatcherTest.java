@@ -0,0 +1,284 @@
+package com.studyolle.infra.outbox;
+
+import com.studyolle.infra.AbstractContainerBaseTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+        "app.outbox.poll-interval=3600000",
+        "app.outbox.purge-interval=3600000",
+        "app.outbox.batch-size=10",
+        "app.outbox.max-attempts=3",
+        "app.outbox.retry-backoff=0s",
+        "app.outbox.lease-duration=1s"
+})
+class OutboxEventDispatcherTest extends AbstractContainerBaseTest {
+
+    private static final String DISPATCHED = "DispatchedMessage";
+
+    private static final String FAILING = "FailingMessage";
+
+    private static final String SLOW = "SlowMessage";
+
+    private static final String CHUNKED = "ChunkedMessage";
+
+    private static final int NUMBER_OF_DISPATCHERS = 4;
+
+    @Autowired OutboxEventDispatcher outboxEventDispatcher;
+    @Autowired OutboxEventRepository outboxEventRepository;
+    @Autowired RecordingHandler recordingHandler;
+    @Autowired CountingHandler countingHandler;
+    @Autowired ChunkedHandler chunkedHandler;
+
+    List<OutboxEvent> outboxEvents = new ArrayList<>();
+
+    @BeforeEach
+    void beforeEach() {
+        recordingHandler.handled.clear();
+        countingHandler.handled.clear();
+        chunkedHandler.handled.clear();
+        chunkedHandler.failed.set(false);
+    }
+
+    @AfterEach
+    void afterEach() {
+        outboxEventRepository.deleteAll(outboxEventRepository.findAllById(
+                outboxEvents.stream().map(OutboxEvent::getId).collect(Collectors.toList())));
+    }
+
+    @DisplayName("여러 디스패처가 동시에 돌아도 이벤트는 한 번씩만 처리하고 지운다.")
+    @Test
+    void dispatch_concurrently() throws Exception {
+        saveOutboxEvents(DISPATCHED, 100);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(NUMBER_OF_DISPATCHERS);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < NUMBER_OF_DISPATCHERS; i++) {
+            futures.add(executorService.submit(outboxEventDispatcher::dispatch));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executorService.shutdown();
+
+        assertEquals(100, recordingHandler.handled.size());
+        recordingHandler.handled.values().forEach(count -> assertEquals(1, count.get()));
+        assertTrue(findSaved().isEmpty());
+    }
+
+    @DisplayName("실패한 이벤트는 최대 횟수까지 다시 시도한 뒤 남겨 두고, 보관 기간이 지나면 지운다.")
+    @Test
+    void retry_and_park() {
+        saveOutboxEvents(FAILING, 1);
+        Long aggregateId = outboxEvents.get(0).getAggregateId();
+
+        for (int i = 0; i < 5; i++) {
+            outboxEventDispatcher.dispatch();
+        }
+
+        assertEquals(3, recordingHandler.handled.get(aggregateId).get());
+        OutboxEvent parked = findSaved().get(0);
+        assertEquals(3, parked.getAttempts());
+
+        outboxEventRepository.deleteParked(3, LocalDateTime.now().minusDays(1));
+        assertEquals(1, findSaved().size());
+
+        outboxEventRepository.deleteParked(3, LocalDateTime.now().plusSeconds(1));
+        assertTrue(findSaved().isEmpty());
+    }
+
+    @DisplayName("처리 중인 이벤트는 임대 기간 동안 다른 디스패처가 가져가지 않는다.")
+    @Test
+    void lease_claimed_events() {
+        saveOutboxEvents(DISPATCHED, 1);
+        OutboxEvent outboxEvent = outboxEventRepository.findById(outboxEvents.get(0).getId()).orElseThrow();
+        outboxEvent.claim(LocalDateTime.now().plusMinutes(5), "other-dispatcher");
+        outboxEventRepository.save(outboxEvent);
+
+        outboxEventDispatcher.dispatch();
+
+        assertTrue(recordingHandler.handled.isEmpty());
+        assertEquals(1, findSaved().size());
+    }
+
+    @DisplayName("핸들러마다 따로 처리하므로 한 핸들러가 실패해도 성공한 핸들러는 다시 실행하지 않는다.")
+    @Test
+    void retry_only_failed_handler() {
+        saveOutboxEvents(FAILING, 1);
+        saveOutboxEvents(FAILING, 1, CountingHandler.class.getSimpleName());
+        Long aggregateId = outboxEvents.get(0).getAggregateId();
+
+        for (int i = 0; i < 5; i++) {
+            outboxEventDispatcher.dispatch();
+        }
+
+        assertEquals(3, recordingHandler.handled.get(aggregateId).get());
+        assertEquals(1, countingHandler.handled.get(aggregateId).get());
+        List<OutboxEvent> remaining = findSaved();
+        assertEquals(1, remaining.size());
+        assertEquals(RecordingHandler.class.getSimpleName(), remaining.get(0).getHandlerName());
+    }
+
+    @DisplayName("임대 기간보다 오래 처리해도 임대를 연장하므로 다른 디스패처가 가져가지 않는다.")
+    @Test
+    void renew_lease_while_handling() throws Exception {
+        saveOutboxEvents(SLOW, 1);
+        Long aggregateId = outboxEvents.get(0).getAggregateId();
+
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        Future<?> future = executorService.submit(outboxEventDispatcher::dispatch);
+        while (!future.isDone()) {
+            outboxEventDispatcher.dispatch();
+            Thread.sleep(200);
+        }
+        future.get();
+        executorService.shutdown();
+
+        assertEquals(1, recordingHandler.handled.get(aggregateId).get());
+        assertTrue(findSaved().isEmpty());
+    }
+
+    @DisplayName("나눠서 처리하는 이벤트는 실패한 청크부터 다시 처리한다.")
+    @Test
+    void resume_from_failed_chunk() {
+        saveOutboxEvents(CHUNKED, 1, ChunkedHandler.class.getSimpleName());
+
+        for (int i = 0; i < 3; i++) {
+            outboxEventDispatcher.dispatch();
+        }
+
+        assertEquals(1, chunkedHandler.handled.get(0L).get());
+        assertEquals(1, chunkedHandler.handled.get(1L).get());
+        assertEquals(2, chunkedHandler.handled.get(2L).get());
+        assertEquals(1, chunkedHandler.handled.get(3L).get());
+        assertTrue(findSaved().isEmpty());
+    }
+
+    private void saveOutboxEvents(String eventType, int count) {
+        saveOutboxEvents(eventType, count, RecordingHandler.class.getSimpleName());
+    }
+
+    private void saveOutboxEvents(String eventType, int count, String handlerName) {
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < count; i++) {
+            outboxEvents.add(OutboxEvent.builder()
+                    .eventType(eventType)
+                    .aggregateId((long) i)
+                    .handlerName(handlerName)
+                    .createdDateTime(now)
+                    .availableDateTime(now)
+                    .build());
+        }
+        outboxEventRepository.saveAll(outboxEvents);
+    }
+
+    private List<OutboxEvent> findSaved() {
+        return outboxEventRepository.findAllById(
+                outboxEvents.stream().map(OutboxEvent::getId).collect(Collectors.toList()));
+    }
+
+    @TestConfiguration
+    static class OutboxTestConfig {
+
+        @Bean
+        RecordingHandler recordingHandler() {
+            return new RecordingHandler();
+        }
+
+        @Bean
+        CountingHandler countingHandler() {
+            return new CountingHandler();
+        }
+
+        @Bean
+        ChunkedHandler chunkedHandler() {
+            return new ChunkedHandler();
+        }
+    }
+
+    static class RecordingHandler implements OutboxEventHandler {
+
+        private final Map<Long, AtomicInteger> handled = new ConcurrentHashMap<>();
+
+        @Override
+        public boolean supports(String eventType) {
+            return DISPATCHED.equals(eventType) || FAILING.equals(eventType) || SLOW.equals(eventType);
+        }
+
+        @Override
+        public void handle(OutboxEvent outboxEvent) {
+            handled.computeIfAbsent(outboxEvent.getAggregateId(), id -> new AtomicInteger()).incrementAndGet();
+            if (FAILING.equals(outboxEvent.getEventType())) {
+                throw new IllegalStateException("handler failed");
+            }
+            if (SLOW.equals(outboxEvent.getEventType())) {
+                try {
+                    Thread.sleep(2500);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+
+    static class CountingHandler implements OutboxEventHandler {
+
+        private final Map<Long, AtomicInteger> handled = new ConcurrentHashMap<>();
+
+        @Override
+        public boolean supports(String eventType) {
+            return FAILING.equals(eventType);
+        }
+
+        @Override
+        public void handle(OutboxEvent outboxEvent) {
+            handled.computeIfAbsent(outboxEvent.getAggregateId(), id -> new AtomicInteger()).incrementAndGet();
+        }
+    }
+
+    static class ChunkedHandler implements OutboxEventHandler {
+
+        private final Map<Long, AtomicInteger> handled = new ConcurrentHashMap<>();
+
+        private final AtomicBoolean failed = new AtomicBoolean();
+
+        @Override
+        public boolean supports(String eventType) {
+            return CHUNKED.equals(eventType);
+        }
+
+        @Override
+        public void handle(OutboxEvent outboxEvent) {
+            long chunk = outboxEvent.getResumeAfter() == null ? 0 : outboxEvent.getResumeAfter() + 1;
+            handled.computeIfAbsent(chunk, id -> new AtomicInteger()).incrementAndGet();
+            if (chunk == 2 && failed.compareAndSet(false, true)) {
+                throw new IllegalStateException("chunk failed");
+            }
+            if (chunk < 3) {
+                outboxEvent.continueAfter(chunk);
+            }
+        }
+    }
+}
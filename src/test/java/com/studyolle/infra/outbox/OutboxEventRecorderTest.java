@@ -0,0 +1,117 @@
+package com.studyolle.infra.outbox;
+
+import com.studyolle.infra.AbstractContainerBaseTest;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = "app.outbox.poll-interval=3600000")
+class OutboxEventRecorderTest extends AbstractContainerBaseTest {
+
+    @Autowired ApplicationEventPublisher eventPublisher;
+    @Autowired OutboxEventRepository outboxEventRepository;
+    @Autowired PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void afterEach() {
+        outboxEventRepository.deleteAll(findRecorded());
+    }
+
+    @DisplayName("이벤트를 발행한 트랜잭션이 커밋되면 처리할 핸들러마다 하나씩 저장된다.")
+    @Test
+    void record_on_commit() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                eventPublisher.publishEvent(new RecordedMessage(1L, "committed")));
+
+        List<OutboxEvent> recorded = findRecorded();
+        assertEquals(2, recorded.size());
+        assertEquals(Set.of(FirstHandler.class.getSimpleName(), SecondHandler.class.getSimpleName()),
+                recorded.stream().map(OutboxEvent::getHandlerName).collect(Collectors.toSet()));
+        recorded.forEach(outboxEvent -> {
+            assertEquals(1L, outboxEvent.getAggregateId());
+            assertEquals("committed", outboxEvent.getMessage());
+            assertEquals(0, outboxEvent.getAttempts());
+        });
+    }
+
+    @DisplayName("이벤트를 발행한 트랜잭션이 롤백되면 저장되지 않는다.")
+    @Test
+    void discard_on_rollback() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            eventPublisher.publishEvent(new RecordedMessage(1L, "rolled back"));
+            status.setRollbackOnly();
+        });
+
+        assertTrue(findRecorded().isEmpty());
+    }
+
+    @DisplayName("트랜잭션 밖에서 발행하면 예외가 발생한다.")
+    @Test
+    void require_transaction() {
+        assertThrows(IllegalTransactionStateException.class,
+                () -> eventPublisher.publishEvent(new RecordedMessage(1L, "no transaction")));
+        assertTrue(findRecorded().isEmpty());
+    }
+
+    private List<OutboxEvent> findRecorded() {
+        return outboxEventRepository.findAll().stream()
+                .filter(outboxEvent -> RecordedMessage.class.getSimpleName().equals(outboxEvent.getEventType()))
+                .collect(Collectors.toList());
+    }
+
+    @TestConfiguration
+    static class OutboxTestConfig {
+
+        @Bean
+        FirstHandler firstHandler() {
+            return new FirstHandler();
+        }
+
+        @Bean
+        SecondHandler secondHandler() {
+            return new SecondHandler();
+        }
+    }
+
+    static class FirstHandler implements OutboxEventHandler {
+
+        @Override
+        public boolean supports(String eventType) {
+            return RecordedMessage.class.getSimpleName().equals(eventType);
+        }
+
+        @Override
+        public void handle(OutboxEvent outboxEvent) {
+        }
+    }
+
+    static class SecondHandler extends FirstHandler {
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    static class RecordedMessage implements OutboxMessage {
+
+        private final Long aggregateId;
+
+        private final String message;
+    }
+}
@@ -0,0 +1,101 @@
+package com.studyolle.modules.account;
+
+import com.studyolle.infra.MutableClock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class AccountPrincipalCacheTest {
+
+    AccountRepository accountRepository;
+    MutableClock clock;
+    AccountPrincipalCache accountPrincipalCache;
+
+    @BeforeEach
+    void beforeEach() {
+        accountRepository = mock(AccountRepository.class);
+        clock = new MutableClock(Instant.parse("2021-07-01T00:00:00Z"));
+        accountPrincipalCache = new AccountPrincipalCache(accountRepository, clock);
+        when(accountRepository.findCredentialVersionById(anyLong())).thenReturn(0L);
+    }
+
+    @DisplayName("이메일이나 닉네임으로 한 번 읽어온 로그인 정보는 버전만 확인하고 캐시에서 꺼낸다.")
+    @Test
+    void load_once() {
+        when(accountRepository.findPrincipalByEmailOrNickname("aiden")).thenReturn(principal(1L, "aiden"));
+
+        assertEquals(1L, accountPrincipalCache.get("aiden").getId());
+        assertEquals(1L, accountPrincipalCache.get("aiden").getId());
+
+        verify(accountRepository, times(1)).findPrincipalByEmailOrNickname("aiden");
+        verify(accountRepository, times(1)).findCredentialVersionById(1L);
+    }
+
+    @DisplayName("없는 계정은 캐시하지 않는다.")
+    @Test
+    void not_found() {
+        assertNull(accountPrincipalCache.get("nobody"));
+        assertNull(accountPrincipalCache.get("nobody"));
+
+        verify(accountRepository, times(2)).findPrincipalByEmailOrNickname("nobody");
+    }
+
+    @DisplayName("유효 시간이 지나면 다시 읽어온다.")
+    @Test
+    void expire() {
+        when(accountRepository.findPrincipalByEmailOrNickname("aiden")).thenReturn(principal(1L, "aiden"));
+        accountPrincipalCache.get("aiden");
+
+        clock.instant = clock.instant.plus(AccountPrincipalCache.TIME_TO_LIVE);
+        accountPrincipalCache.get("aiden");
+
+        verify(accountRepository, times(2)).findPrincipalByEmailOrNickname("aiden");
+    }
+
+    @DisplayName("다른 노드에서 계정 정보를 바꿔 버전이 달라지면 다시 읽어온다.")
+    @Test
+    void reload_changed_credentials() {
+        when(accountRepository.findPrincipalByEmailOrNickname("aiden")).thenReturn(principal(1L, "aiden"));
+        accountPrincipalCache.get("aiden");
+
+        when(accountRepository.findCredentialVersionById(1L)).thenReturn(1L);
+        accountPrincipalCache.get("aiden");
+
+        verify(accountRepository, times(2)).findPrincipalByEmailOrNickname("aiden");
+    }
+
+    @DisplayName("삭제된 계정은 캐시에서 꺼내지 않는다.")
+    @Test
+    void deleted_account() {
+        when(accountRepository.findPrincipalByEmailOrNickname("aiden")).thenReturn(principal(1L, "aiden"));
+        accountPrincipalCache.get("aiden");
+
+        when(accountRepository.findCredentialVersionById(1L)).thenReturn(null);
+        when(accountRepository.findPrincipalByEmailOrNickname("aiden")).thenReturn(null);
+
+        assertNull(accountPrincipalCache.get("aiden"));
+        assertEquals(0, accountPrincipalCache.size());
+    }
+
+    @DisplayName("최대 개수를 넘지 않는다.")
+    @Test
+    void bounded() {
+        when(accountRepository.findPrincipalByEmailOrNickname(anyString()))
+                .thenAnswer(invocation -> principal(1L, invocation.getArgument(0)));
+        for (int i = 0; i <= AccountPrincipalCache.MAXIMUM_SIZE; i++) {
+            accountPrincipalCache.get("user" + i);
+        }
+
+        assertEquals(AccountPrincipalCache.MAXIMUM_SIZE, accountPrincipalCache.size());
+    }
+
+    private AccountPrincipal principal(Long id, String nickname) {
+        return new AccountPrincipal(id, nickname + "@email.com", nickname, "{noop}12345678",
+                false, true, false, true, false, true, 0L);
+    }
+}
@@ -0,0 +1,91 @@
+package com.studyolle.modules.account;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.studyolle.infra.AbstractContainerBaseTest;
+import com.studyolle.infra.outbox.OutboxEventRepository;
+import com.studyolle.modules.account.form.SignUpForm;
+import com.studyolle.modules.zone.Zone;
+import com.studyolle.modules.zone.ZoneForm;
+import com.studyolle.modules.zone.ZoneRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.TestExecutionEvent;
+import org.springframework.security.test.context.support.WithUserDetails;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = "app.outbox.poll-interval=3600000")
+@AutoConfigureMockMvc
+class CurrentAccountPersistenceTest extends AbstractContainerBaseTest {
+
+    @Autowired MockMvc mockMvc;
+    @Autowired ObjectMapper objectMapper;
+    @Autowired AccountService accountService;
+    @Autowired AccountRepository accountRepository;
+    @Autowired ZoneRepository zoneRepository;
+    @Autowired OutboxEventRepository outboxEventRepository;
+
+    Zone zone;
+
+    @BeforeEach
+    void beforeEach() {
+        SignUpForm signUpForm = new SignUpForm();
+        signUpForm.setNickname("aiden");
+        signUpForm.setEmail("test@email.com");
+        signUpForm.setPassword("12345678");
+        accountService.processNewAccount(signUpForm);
+
+        zone = zoneRepository.save(Zone.builder().city("persist").localNameOfCity("저장시").province("저장주").build());
+    }
+
+    @AfterEach
+    void afterEach() {
+        outboxEventRepository.deleteAllInBatch();
+        accountRepository.deleteAll();
+        zoneRepository.delete(zone);
+    }
+
+    @WithUserDetails(value = "aiden", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+    @DisplayName("@CurrentAccount로 받은 계정의 지역 추가/삭제가 DB에 반영된다.")
+    @Test
+    void add_and_remove_zone_persist() throws Exception {
+        ZoneForm zoneForm = new ZoneForm();
+        zoneForm.setZoneName(zone.toString());
+
+        mockMvc.perform(post("/settings/zones/add")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(zoneForm))
+                    .with(csrf()))
+                .andExpect(status().isOk());
+
+        assertTrue(zonesOfAiden().contains(zone));
+
+        mockMvc.perform(post("/settings/zones/remove")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(zoneForm))
+                    .with(csrf()))
+                .andExpect(status().isOk());
+
+        assertFalse(zonesOfAiden().contains(zone));
+    }
+
+    private Set<Zone> zonesOfAiden() {
+        Long id = accountRepository.findByNickname("aiden").getId();
+        return accountRepository.findAccountWithTagsAndZonesById(id).getZones();
+    }
+}
@@ -0,0 +1,56 @@
+package com.studyolle.modules.account;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class CurrentAccountResolverTest {
+
+    AccountService accountService;
+    CurrentAccountResolver currentAccountResolver;
+
+    @BeforeEach
+    void beforeEach() {
+        accountService = mock(AccountService.class);
+        currentAccountResolver = new CurrentAccountResolver(accountService);
+    }
+
+    @DisplayName("한 요청 안에서는 계정을 한 번만 조회한다.")
+    @Test
+    void resolve_once_per_request() {
+        Account aiden = account(1L, "aiden");
+        when(accountService.getCurrentAccount(any())).thenReturn(aiden);
+
+        UserAccount userAccount = new UserAccount(aiden);
+        assertSame(aiden, currentAccountResolver.resolve(userAccount));
+        assertSame(aiden, currentAccountResolver.resolve(userAccount));
+
+        verify(accountService, times(1)).getCurrentAccount(any());
+    }
+
+    @DisplayName("다른 계정으로 바뀌면 다시 조회한다.")
+    @Test
+    void resolve_again_for_other_account() {
+        Account aiden = account(1L, "aiden");
+        Account jeong = account(2L, "jeong");
+        when(accountService.getCurrentAccount(any())).thenReturn(aiden, jeong);
+
+        currentAccountResolver.resolve(new UserAccount(aiden));
+        assertSame(jeong, currentAccountResolver.resolve(new UserAccount(jeong)));
+
+        verify(accountService, times(2)).getCurrentAccount(any());
+    }
+
+    private Account account(Long id, String nickname) {
+        Account account = new Account();
+        account.setId(id);
+        account.setNickname(nickname);
+        account.setEmail(nickname + "@email.com");
+        account.setPassword("12345678");
+        return account;
+    }
+}
@@ -118,6 +118,21 @@ class SettingsControllerTest extends AbstractContainerBaseTest {
         assertNull(aiden.getBio());
     }
 
+    @WithUserDetails(value = "aiden", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+    @DisplayName("프로필 수정하기 - 지원하지 않는 이미지")
+    @Test
+    void updateProfile_invalid_image() throws Exception {
+        mockMvc.perform(post("/settings/profile")
+                    .param("profileImage", "data:image/png;base64,not-an-image")
+                    .with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(view().name("settings/profile"))
+                .andExpect(model().attributeHasFieldErrors("profile", "profileImage"));
+
+        Account aiden = accountRepository.findByNickname("aiden");
+        assertNull(aiden.getProfileImage());
+    }
+
     @WithUserDetails(value = "aiden", setupBefore = TestExecutionEvent.TEST_EXECUTION)
     @DisplayName("패스워드 수정 폼")
     @Test
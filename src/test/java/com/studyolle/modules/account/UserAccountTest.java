@@ -0,0 +1,65 @@
+package com.studyolle.modules.account;
+
+import com.studyolle.infra.session.CompactSessionSerializer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.serializer.DefaultSerializer;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextImpl;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserAccountTest {
+
+    CompactSessionSerializer serializer;
+
+    @BeforeEach
+    void beforeEach() {
+        serializer = new CompactSessionSerializer(getClass().getClassLoader());
+    }
+
+    @DisplayName("로그인 정보를 직렬화하면 아이디, 닉네임, 이메일만 남는다.")
+    @Test
+    void round_trip() throws IOException {
+        SecurityContextImpl securityContext = securityContext();
+
+        byte[] bytes = serialize(securityContext);
+        SecurityContextImpl restored = (SecurityContextImpl) serializer.deserialize(new ByteArrayInputStream(bytes));
+
+        UserAccount userAccount = (UserAccount) restored.getAuthentication().getPrincipal();
+        assertEquals(1L, userAccount.getId());
+        assertEquals("aiden", userAccount.getUsername());
+        assertEquals("aiden@email.com", userAccount.getEmail());
+        assertNull(userAccount.getPassword());
+        assertEquals("ROLE_USER", userAccount.getAuthorities().iterator().next().getAuthority());
+    }
+
+    @DisplayName("기본 자바 직렬화보다 작다.")
+    @Test
+    void smaller_than_java_serialization() throws IOException {
+        SecurityContextImpl securityContext = securityContext();
+
+        ByteArrayOutputStream plain = new ByteArrayOutputStream();
+        new DefaultSerializer().serialize(securityContext, plain);
+
+        assertTrue(serialize(securityContext).length < plain.size());
+    }
+
+    private SecurityContextImpl securityContext() {
+        UserAccount userAccount = new UserAccount(new AccountPrincipal(1L, "aiden@email.com", "aiden", "{noop}12345678",
+                false, true, false, true, false, true, 0L));
+        userAccount.eraseCredentials();
+        return new SecurityContextImpl(new UsernamePasswordAuthenticationToken(userAccount, null, userAccount.getAuthorities()));
+    }
+
+    private byte[] serialize(Object object) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        serializer.serialize(object, outputStream);
+        return outputStream.toByteArray();
+    }
+}
@@ -0,0 +1,115 @@
+package com.studyolle.modules.event;
+
+import com.studyolle.infra.AbstractContainerBaseTest;
+import com.studyolle.modules.account.Account;
+import com.studyolle.modules.account.AccountRepository;
+import com.studyolle.modules.study.Study;
+import com.studyolle.modules.study.StudyRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ActiveProfiles("test")
+@SpringBootTest
+class EnrollmentConcurrencyTest extends AbstractContainerBaseTest {
+
+    private static final int NUMBER_OF_ACCOUNTS = 1000;
+
+    private static final int LIMIT_OF_ENROLLMENTS = 100;
+
+    @Autowired EventService eventService;
+    @Autowired EventRepository eventRepository;
+    @Autowired EnrollmentRepository enrollmentRepository;
+    @Autowired StudyRepository studyRepository;
+    @Autowired AccountRepository accountRepository;
+
+    @AfterEach
+    void afterEach() {
+        enrollmentRepository.deleteAllInBatch();
+        eventRepository.deleteAllInBatch();
+        studyRepository.deleteAllInBatch();
+        accountRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("선착순 모임에 동시에 참가 신청해도 모집 인원보다 많이 확정하지 않는다.")
+    @Test
+    void newEnrollment_concurrently() throws InterruptedException {
+        Account manager = createAccount("manager");
+        Study study = new Study();
+        study.setPath("concurrency-study");
+        study.setTitle("concurrency-study");
+        studyRepository.save(study);
+        Event event = createEvent(study, manager);
+
+        List<Account> accounts = new ArrayList<>();
+        for (int i = 0; i < NUMBER_OF_ACCOUNTS; i++) {
+            Account account = new Account();
+            account.setNickname("member" + i);
+            account.setEmail("member" + i + "@email.com");
+            accounts.add(account);
+        }
+        accountRepository.saveAll(accounts);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(200);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(NUMBER_OF_ACCOUNTS);
+        AtomicInteger failures = new AtomicInteger();
+        for (Account account : accounts) {
+            executorService.execute(() -> {
+                try {
+                    start.await();
+                    eventService.newEnrollment(event, account);
+                } catch (Exception e) {
+                    failures.incrementAndGet();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        assertTrue(done.await(2, TimeUnit.MINUTES));
+        executorService.shutdown();
+
+        List<Enrollment> enrollments = enrollmentRepository.findAll();
+        assertEquals(0, failures.get());
+        assertEquals(NUMBER_OF_ACCOUNTS, enrollments.size());
+        assertEquals(LIMIT_OF_ENROLLMENTS, enrollments.stream().filter(Enrollment::isAccepted).count());
+        assertEquals(LIMIT_OF_ENROLLMENTS, eventRepository.findById(event.getId()).orElseThrow().getAcceptedCount());
+    }
+
+    private Account createAccount(String nickname) {
+        Account account = new Account();
+        account.setNickname(nickname);
+        account.setEmail(nickname + "@email.com");
+        return accountRepository.save(account);
+    }
+
+    private Event createEvent(Study study, Account account) {
+        Event event = new Event();
+        event.setStudy(study);
+        event.setCreatedBy(account);
+        event.setEventType(EventType.FCFS);
+        event.setLimitOfEnrollments(LIMIT_OF_ENROLLMENTS);
+        event.setTitle("concurrency-event");
+        event.setCreatedDateTime(LocalDateTime.now());
+        event.setEndEnrollmentDateTime(LocalDateTime.now().plusDays(1));
+        event.setStartDateTime(LocalDateTime.now().plusDays(1).plusHours(5));
+        event.setEndDateTime(LocalDateTime.now().plusDays(1).plusHours(7));
+        return eventRepository.save(event);
+    }
+}
@@ -19,11 +19,12 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.LocalDateTime;
 
+import static org.hamcrest.Matchers.*;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrl;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @MockMvcTest
 class EventControllerTest extends AbstractContainerBaseTest {
@@ -165,6 +166,48 @@ class EventControllerTest extends AbstractContainerBaseTest {
         isNotAccepted(aiden, event);
     }
 
+    @Test
+    @DisplayName("스터디 모임 목록 조회 - 새 모임과 지난 모임을 나눠서 페이징")
+    @WithUserDetails(value = "aiden", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+    void viewStudyEvents_paged() throws Exception {
+        Account jeong = accountFactory.createAccount("jeong");
+        Study study = studyFactory.createStudy("test-study", jeong);
+        for (int i = 0; i < EventController.EVENT_PAGE_SIZE + 2; i++) {
+            createEvent("new-event" + i, EventType.FCFS, 2, study, jeong);
+        }
+        for (int i = 0; i < 3; i++) {
+            Event event = createEvent("old-event" + i, EventType.FCFS, 2, study, jeong);
+            event.setEndDateTime(LocalDateTime.now().minusDays(i + 1));
+        }
+
+        mockMvc.perform(get("/study/" + study.getPath() + "/events"))
+                .andExpect(status().isOk())
+                .andExpect(view().name("study/events"))
+                .andExpect(model().attribute("newEvents", hasProperty("totalElements", is((long) EventController.EVENT_PAGE_SIZE + 2))))
+                .andExpect(model().attribute("newEvents", hasProperty("content", hasSize(EventController.EVENT_PAGE_SIZE))))
+                .andExpect(model().attribute("oldEvents", hasProperty("totalElements", is(3L))));
+
+        mockMvc.perform(get("/study/" + study.getPath() + "/events").param("newPage", "1"))
+                .andExpect(status().isOk())
+                .andExpect(model().attribute("newEvents", hasProperty("content", hasSize(2))));
+    }
+
+    @Test
+    @DisplayName("스터디 모임 목록 조회 - 음수 페이지는 첫 페이지로 조회")
+    @WithUserDetails(value = "aiden", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+    void viewStudyEvents_negative_page() throws Exception {
+        Account jeong = accountFactory.createAccount("jeong");
+        Study study = studyFactory.createStudy("test-study", jeong);
+        createEvent("new-event", EventType.FCFS, 2, study, jeong);
+
+        mockMvc.perform(get("/study/" + study.getPath() + "/events")
+                        .param("newPage", "-1")
+                        .param("oldPage", "-1"))
+                .andExpect(status().isOk())
+                .andExpect(model().attribute("newEvents", hasProperty("number", is(0))))
+                .andExpect(model().attribute("newEvents", hasProperty("content", hasSize(1))));
+    }
+
     private Event createEvent(String eventTitle, EventType eventType, int limit, Study study, Account account) {
         Event event = new Event();
         event.setEventType(eventType);
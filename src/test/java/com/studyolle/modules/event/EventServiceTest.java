@@ -0,0 +1,140 @@
+package com.studyolle.modules.event;
+
+import com.studyolle.infra.AbstractContainerBaseTest;
+import com.studyolle.infra.outbox.OutboxEventRepository;
+import com.studyolle.modules.account.Account;
+import com.studyolle.modules.account.AccountRepository;
+import com.studyolle.modules.event.form.EventForm;
+import com.studyolle.modules.study.Study;
+import com.studyolle.modules.study.StudyRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = "app.outbox.poll-interval=3600000")
+class EventServiceTest extends AbstractContainerBaseTest {
+
+    @Autowired EventService eventService;
+    @Autowired EventRepository eventRepository;
+    @Autowired EnrollmentRepository enrollmentRepository;
+    @Autowired StudyRepository studyRepository;
+    @Autowired AccountRepository accountRepository;
+    @Autowired OutboxEventRepository outboxEventRepository;
+    @Autowired ModelMapper modelMapper;
+    @Autowired PlatformTransactionManager transactionManager;
+
+    Event event;
+    List<Account> accounts;
+
+    @BeforeEach
+    void beforeEach() {
+        Account manager = createAccount("manager");
+        Study study = new Study();
+        study.setPath("event-service-study");
+        study.setTitle("event-service-study");
+        studyRepository.save(study);
+        event = createEvent(study, manager, 2);
+
+        accounts = List.of(createAccount("aiden"), createAccount("jeong"), createAccount("may"), createAccount("june"));
+        accounts.forEach(account -> eventService.newEnrollment(event, account));
+    }
+
+    @AfterEach
+    void afterEach() {
+        outboxEventRepository.deleteAllInBatch();
+        enrollmentRepository.deleteAllInBatch();
+        eventRepository.deleteAllInBatch();
+        studyRepository.deleteAllInBatch();
+        accountRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("선착순 모임의 모집 인원을 늘리면 먼저 신청한 대기자부터 늘어난 자리만큼 확정한다.")
+    @Test
+    void updateEvent_accept_waiting_list() {
+        updateLimitOfEnrollments(3);
+
+        isAccepted(accounts.get(0));
+        isAccepted(accounts.get(1));
+        isAccepted(accounts.get(2));
+        isNotAccepted(accounts.get(3));
+        assertEquals(3, eventRepository.findById(event.getId()).orElseThrow().getAcceptedCount());
+    }
+
+    @DisplayName("늘어난 자리가 대기자보다 많으면 대기자 전원을 확정한다.")
+    @Test
+    void updateEvent_accept_all_waiting() {
+        updateLimitOfEnrollments(10);
+
+        accounts.forEach(this::isAccepted);
+        assertEquals(4, eventRepository.findById(event.getId()).orElseThrow().getAcceptedCount());
+    }
+
+    @DisplayName("같은 트랜잭션에서 이미 읽은 참가 신청도 확정 상태로 갱신된다.")
+    @Test
+    void updateEvent_refresh_loaded_enrollments() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Event managed = eventRepository.findById(event.getId()).orElseThrow();
+            Enrollment waiting = enrollmentRepository.findByEventAndAccount(managed, accounts.get(2));
+            assertFalse(waiting.isAccepted());
+
+            EventForm eventForm = modelMapper.map(managed, EventForm.class);
+            eventForm.setLimitOfEnrollments(3);
+            eventService.updateEvent(managed, eventForm);
+
+            assertTrue(waiting.isAccepted());
+        });
+    }
+
+    private void updateLimitOfEnrollments(int limitOfEnrollments) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Event managed = eventRepository.findById(event.getId()).orElseThrow();
+            EventForm eventForm = modelMapper.map(managed, EventForm.class);
+            eventForm.setLimitOfEnrollments(limitOfEnrollments);
+            eventService.updateEvent(managed, eventForm);
+        });
+    }
+
+    private void isAccepted(Account account) {
+        assertTrue(enrollmentRepository.findByEventAndAccount(event, account).isAccepted());
+    }
+
+    private void isNotAccepted(Account account) {
+        assertFalse(enrollmentRepository.findByEventAndAccount(event, account).isAccepted());
+    }
+
+    private Account createAccount(String nickname) {
+        Account account = new Account();
+        account.setNickname(nickname);
+        account.setEmail(nickname + "@email.com");
+        return accountRepository.save(account);
+    }
+
+    private Event createEvent(Study study, Account account, int limitOfEnrollments) {
+        Event event = new Event();
+        event.setStudy(study);
+        event.setCreatedBy(account);
+        event.setEventType(EventType.FCFS);
+        event.setLimitOfEnrollments(limitOfEnrollments);
+        event.setTitle("event-service-event");
+        event.setCreatedDateTime(LocalDateTime.now());
+        event.setEndEnrollmentDateTime(LocalDateTime.now().plusDays(1));
+        event.setStartDateTime(LocalDateTime.now().plusDays(1).plusHours(5));
+        event.setEndDateTime(LocalDateTime.now().plusDays(1).plusHours(7));
+        return eventRepository.save(event);
+    }
+}
@@ -0,0 +1,67 @@
+package com.studyolle.modules.event;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EventTest {
+
+    Event event;
+
+    @BeforeEach
+    void beforeEach() {
+        event = new Event();
+        event.setId(1L);
+        event.setEventType(EventType.FCFS);
+        event.setLimitOfEnrollments(2);
+        event.setEndEnrollmentDateTime(LocalDateTime.now().plusDays(1));
+    }
+
+    @DisplayName("참가 신청하지 않은 모임은 참가 신청 가능")
+    @Test
+    void isEnrollableFor() {
+        assertTrue(event.isEnrollableFor(null));
+        assertFalse(event.isDisenrollableFor(null));
+    }
+
+    @DisplayName("참가 신청한 모임은 참가 신청 취소 가능")
+    @Test
+    void isDisenrollableFor() {
+        Enrollment enrollment = createEnrollment(false);
+
+        assertFalse(event.isEnrollableFor(enrollment));
+        assertTrue(event.isDisenrollableFor(enrollment));
+    }
+
+    @DisplayName("출석한 모임은 참가 신청도 취소도 할 수 없다.")
+    @Test
+    void isAttended() {
+        Enrollment enrollment = createEnrollment(true);
+
+        assertFalse(event.isEnrollableFor(enrollment));
+        assertFalse(event.isDisenrollableFor(enrollment));
+    }
+
+    @DisplayName("참가 신청 마감이 지난 모임은 참가 신청도 취소도 할 수 없다.")
+    @Test
+    void closed() {
+        event.setEndEnrollmentDateTime(LocalDateTime.now().minusDays(1));
+
+        assertFalse(event.isEnrollableFor(null));
+        assertFalse(event.isDisenrollableFor(createEnrollment(false)));
+    }
+
+    private Enrollment createEnrollment(boolean attended) {
+        Enrollment enrollment = new Enrollment();
+        enrollment.setEvent(event);
+        enrollment.setAccepted(true);
+        enrollment.setAttended(attended);
+        enrollment.setEnrolledAt(LocalDateTime.now());
+        return enrollment;
+    }
+}
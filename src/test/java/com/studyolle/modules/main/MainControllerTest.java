@@ -2,24 +2,38 @@ package com.studyolle.modules.main;
 
 import com.studyolle.infra.AbstractContainerBaseTest;
 import com.studyolle.infra.MockMvcTest;
+import com.studyolle.modules.account.Account;
+import com.studyolle.modules.account.AccountFactory;
 import com.studyolle.modules.account.AccountRepository;
 import com.studyolle.modules.account.AccountService;
 import com.studyolle.modules.account.form.SignUpForm;
+import com.studyolle.modules.study.Study;
+import com.studyolle.modules.study.StudyFactory;
+import com.studyolle.modules.study.StudyRecommendationService;
+import com.studyolle.modules.study.StudyService;
+import com.studyolle.modules.tag.Tag;
+import com.studyolle.modules.tag.TagService;
+import com.studyolle.modules.zone.Zone;
+import com.studyolle.modules.zone.ZoneRepository;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.test.context.support.TestExecutionEvent;
 import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.security.test.context.support.WithUserDetails;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.util.List;
+
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.security.test.web.servlet.response.SecurityMockMvcResultMatchers.authenticated;
 import static org.springframework.security.test.web.servlet.response.SecurityMockMvcResultMatchers.unauthenticated;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrl;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @MockMvcTest
 class MainControllerTest extends AbstractContainerBaseTest {
@@ -33,6 +47,24 @@ class MainControllerTest extends AbstractContainerBaseTest {
     @Autowired
     private AccountRepository accountRepository;
 
+    @Autowired
+    private AccountFactory accountFactory;
+
+    @Autowired
+    private StudyFactory studyFactory;
+
+    @Autowired
+    private StudyService studyService;
+
+    @Autowired
+    private StudyRecommendationService studyRecommendationService;
+
+    @Autowired
+    private TagService tagService;
+
+    @Autowired
+    private ZoneRepository zoneRepository;
+
     @BeforeEach
     void beforeEach() {
         SignUpForm signUpForm = new SignUpForm();
@@ -97,4 +129,75 @@ class MainControllerTest extends AbstractContainerBaseTest {
                 .andExpect(redirectedUrl("/"))
                 .andExpect(unauthenticated());
     }
-}
\ No newline at end of file
+
+    @WithUserDetails(value = "aiden", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+    @DisplayName("관심 주제와 주요 활동 지역에 맞는 공개 스터디를 추천")
+    @Test
+    void home_with_recommended_studies() throws Exception {
+        Account aiden = accountRepository.findByNickname("aiden");
+        Tag tag = tagService.findOrCreateNew("Spring");
+        Zone zone = zoneRepository.findAll().get(0);
+        accountService.addTag(aiden, tag);
+        accountService.addZone(aiden, zone);
+
+        Account jeong = accountFactory.createAccount("jeong");
+        Study study = studyFactory.createStudy("test-study", jeong);
+        studyService.addTag(study, tag);
+        studyService.addZone(study, zone);
+        studyService.publish(study);
+        studyRecommendationService.recommend(study.getId());
+
+        mockMvc.perform(get("/"))
+                .andExpect(status().isOk())
+                .andExpect(view().name("index-after-login"))
+                .andExpect(model().attribute("studyList", List.of(study)));
+
+        studyService.removeZone(study, zone);
+        studyRecommendationService.recommend(study.getId());
+
+        mockMvc.perform(get("/"))
+                .andExpect(status().isOk())
+                .andExpect(model().attribute("studyList", List.of()));
+
+        studyService.addZone(study, zone);
+        studyRecommendationService.recommend(study.getId());
+        studyService.close(study);
+
+        mockMvc.perform(get("/"))
+                .andExpect(status().isOk())
+                .andExpect(model().attribute("studyList", List.of()));
+    }
+
+    @WithUserDetails(value = "aiden", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+    @DisplayName("관심 주제를 바꾸면 달라진 스터디만 추천에 반영")
+    @Test
+    void home_with_recommendations_for_changed_interests() throws Exception {
+        Account aiden = accountRepository.findByNickname("aiden");
+        Tag tag = tagService.findOrCreateNew("Spring");
+        Zone zone = zoneRepository.findAll().get(0);
+        accountService.addTag(aiden, tag);
+        accountService.addZone(aiden, zone);
+
+        Account jeong = accountFactory.createAccount("jeong");
+        Study study = studyFactory.createStudy("test-study", jeong);
+        studyService.addTag(study, tag);
+        studyService.addZone(study, zone);
+        studyService.publish(study);
+        studyRecommendationService.recommend(study.getId());
+
+        accountService.removeTag(aiden, tag);
+        studyRecommendationService.recommendTo(aiden.getId());
+
+        mockMvc.perform(get("/"))
+                .andExpect(status().isOk())
+                .andExpect(model().attribute("studyList", List.of()));
+
+        accountService.addTag(aiden, tag);
+        studyRecommendationService.recommendTo(aiden.getId());
+        studyRecommendationService.recommendTo(aiden.getId());
+
+        mockMvc.perform(get("/"))
+                .andExpect(status().isOk())
+                .andExpect(model().attribute("studyList", List.of(study)));
+    }
+}
@@ -0,0 +1,71 @@
+package com.studyolle.modules.notification;
+
+import com.studyolle.infra.AbstractContainerBaseTest;
+import com.studyolle.modules.account.Account;
+import com.studyolle.modules.account.AccountRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@Tag("benchmark")
+@ActiveProfiles("test")
+@SpringBootTest
+class NotificationBatchWriterBenchmark extends AbstractContainerBaseTest {
+
+    private static final Logger log = LoggerFactory.getLogger(NotificationBatchWriterBenchmark.class);
+
+    @Autowired NotificationBatchWriter notificationBatchWriter;
+    @Autowired NotificationRepository notificationRepository;
+    @Autowired AccountRepository accountRepository;
+    @Autowired TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    void afterEach() {
+        notificationRepository.deleteAllInBatch();
+        accountRepository.deleteAllInBatch();
+    }
+
+    @ParameterizedTest(name = "{0} recipients")
+    @ValueSource(ints = {10_000, 100_000, 1_000_000})
+    void write(int recipients) {
+        Account account = new Account();
+        account.setNickname("aiden");
+        account.setEmail("aiden@email.com");
+        accountRepository.save(account);
+
+        long start = System.nanoTime();
+        Long written = transactionTemplate.execute(status -> notificationBatchWriter.write(() ->
+                IntStream.range(0, recipients).mapToObj(i -> createNotification(account, i)).iterator()));
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertEquals(recipients, written);
+        assertEquals(recipients, notificationRepository.count());
+        log.info("wrote {} notifications in {} ms ({} rows/s)",
+                recipients, elapsedMillis, recipients * 1000L / Math.max(elapsedMillis, 1));
+    }
+
+    private Notification createNotification(Account account, int index) {
+        Notification notification = new Notification();
+        notification.setTitle("benchmark");
+        notification.setLink("/study/benchmark");
+        notification.setMessage("notification " + index);
+        notification.setChecked(false);
+        notification.setCreatedDateTime(LocalDateTime.now());
+        notification.setAccount(account);
+        notification.setNotificationType(NotificationType.STUDY_CREATED);
+        return notification;
+    }
+}
@@ -0,0 +1,153 @@
+package com.studyolle.modules.notification;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class UnreadNotificationCounterTest {
+
+    NotificationRepository notificationRepository;
+    UnreadNotificationCounter unreadNotificationCounter;
+
+    @BeforeEach
+    void beforeEach() {
+        notificationRepository = mock(NotificationRepository.class);
+        unreadNotificationCounter = new UnreadNotificationCounter(notificationRepository);
+    }
+
+    @AfterEach
+    void afterEach() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @DisplayName("처음 조회할 때만 DB에서 읽지 않은 알림 개수를 가져온다.")
+    @Test
+    void warm_up_once() {
+        when(notificationRepository.countByAccountIdAndChecked(1L, false)).thenReturn(3L);
+
+        assertEquals(3L, unreadNotificationCounter.getCount(1L));
+        assertTrue(unreadNotificationCounter.hasUnread(1L));
+        assertTrue(unreadNotificationCounter.hasUnread(1L));
+
+        verify(notificationRepository, times(1)).countByAccountIdAndChecked(1L, false);
+    }
+
+    @DisplayName("알림을 만들면 증가하고 읽으면 감소한다.")
+    @Test
+    void increment_and_decrement() {
+        when(notificationRepository.countByAccountIdAndChecked(1L, false)).thenReturn(0L);
+        assertFalse(unreadNotificationCounter.hasUnread(1L));
+
+        unreadNotificationCounter.increment(1L);
+        unreadNotificationCounter.increment(1L);
+        assertEquals(2L, unreadNotificationCounter.getCount(1L));
+
+        unreadNotificationCounter.decrement(1L, 5L);
+        assertEquals(0L, unreadNotificationCounter.getCount(1L));
+    }
+
+    @DisplayName("아직 조회하지 않은 계정은 증가시키지 않고 나중에 DB에서 읽어온다.")
+    @Test
+    void increment_before_warm_up() {
+        unreadNotificationCounter.increment(1L);
+        when(notificationRepository.countByAccountIdAndChecked(1L, false)).thenReturn(1L);
+
+        assertEquals(1L, unreadNotificationCounter.getCount(1L));
+    }
+
+    @DisplayName("여러 스레드에서 동시에 증가시켜도 개수가 맞다.")
+    @Test
+    void concurrent_increment() throws Exception {
+        when(notificationRepository.countByAccountIdAndChecked(1L, false)).thenReturn(0L);
+        unreadNotificationCounter.getCount(1L);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            futures.add(executorService.submit(() -> {
+                for (int j = 0; j < 1000; j++) {
+                    unreadNotificationCounter.increment(1L);
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executorService.shutdown();
+        executorService.awaitTermination(1, TimeUnit.SECONDS);
+
+        assertEquals(8000L, unreadNotificationCounter.getCount(1L));
+    }
+
+    @DisplayName("트랜잭션이 커밋된 뒤에만 증가시키고 롤백되면 그대로 둔다.")
+    @Test
+    void increment_after_commit() {
+        when(notificationRepository.countByAccountIdAndChecked(1L, false)).thenReturn(0L);
+        unreadNotificationCounter.getCount(1L);
+
+        TransactionSynchronizationManager.initSynchronization();
+        unreadNotificationCounter.increment(1L);
+        assertEquals(0L, unreadNotificationCounter.getCount(1L));
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        TransactionSynchronizationManager.clearSynchronization();
+        assertEquals(0L, unreadNotificationCounter.getCount(1L));
+
+        TransactionSynchronizationManager.initSynchronization();
+        unreadNotificationCounter.increment(1L);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertEquals(1L, unreadNotificationCounter.getCount(1L));
+    }
+
+    @DisplayName("DB에서 읽어오는 동안 커밋된 증가도 잃지 않는다.")
+    @Test
+    void increment_while_loading() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(notificationRepository.countByAccountIdAndChecked(1L, false)).thenAnswer(invocation -> {
+            loading.countDown();
+            release.await();
+            return 3L;
+        });
+
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        Future<Long> load = executorService.submit(() -> unreadNotificationCounter.getCount(1L));
+        assertTrue(loading.await(10, TimeUnit.SECONDS));
+        Future<?> increment = executorService.submit(() -> unreadNotificationCounter.increment(1L));
+        Thread.sleep(100);
+        release.countDown();
+        load.get();
+        increment.get();
+        executorService.shutdown();
+
+        assertEquals(4L, unreadNotificationCounter.getCount(1L));
+        verify(notificationRepository, times(1)).countByAccountIdAndChecked(1L, false);
+    }
+
+    @DisplayName("최대 개수를 넘지 않는다.")
+    @Test
+    void bounded() {
+        when(notificationRepository.countByAccountIdAndChecked(anyLong(), eq(false))).thenReturn(0L);
+        for (long accountId = 0; accountId <= UnreadNotificationCounter.MAXIMUM_SIZE; accountId++) {
+            unreadNotificationCounter.getCount(accountId);
+        }
+
+        assertEquals(UnreadNotificationCounter.MAXIMUM_SIZE, unreadNotificationCounter.size());
+    }
+}
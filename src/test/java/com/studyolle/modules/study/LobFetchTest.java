@@ -0,0 +1,108 @@
+package com.studyolle.modules.study;
+
+import com.studyolle.infra.AbstractContainerBaseTest;
+import com.studyolle.infra.MockMvcTest;
+import com.studyolle.modules.account.Account;
+import com.studyolle.modules.account.AccountRepository;
+import com.studyolle.modules.tag.Tag;
+import com.studyolle.modules.tag.TagService;
+import com.studyolle.modules.zone.Zone;
+import com.studyolle.modules.zone.ZoneRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@MockMvcTest
+class LobFetchTest extends AbstractContainerBaseTest {
+
+    private static final int LOB_SIZE = 100_000;
+
+    private static final int NUMBER_OF_STUDIES = 9;
+
+    @Autowired EntityManager entityManager;
+    @Autowired StudyRepository studyRepository;
+    @Autowired AccountRepository accountRepository;
+    @Autowired TagService tagService;
+    @Autowired ZoneRepository zoneRepository;
+
+    Account manager;
+    Tag tag;
+    Zone zone;
+    List<Long> studyIds = new ArrayList<>();
+
+    @BeforeEach
+    void beforeEach() {
+        tag = tagService.findOrCreateNew("lob-fetch");
+        zone = zoneRepository.findAll().get(0);
+
+        manager = new Account();
+        manager.setNickname("lob-manager");
+        manager.setEmail("lob-manager@email.com");
+        manager.getTags().add(tag);
+        manager.getZones().add(zone);
+        accountRepository.save(manager);
+
+        for (int i = 0; i < NUMBER_OF_STUDIES; i++) {
+            Study study = new Study();
+            study.setPath("lob-study-" + i);
+            study.setTitle("lob-study-" + i);
+            study.setFullDescription(largeText('d'));
+            study.setPublished(true);
+            study.setPublishedDateTime(LocalDateTime.now());
+            study.addManager(manager);
+            study.getTags().add(tag);
+            study.getZones().add(zone);
+            studyIds.add(studyRepository.save(study).getId());
+        }
+    }
+
+    @DisplayName("스터디 목록 조회는 상세 소개를 읽지 않는다.")
+    @Test
+    void study_lists() {
+        assertTrue(bytesSent(() -> studyRepository.findFirst9ByPublishedAndClosedOrderByPublishedDateTimeDesc(true, false)) < LOB_SIZE);
+        assertTrue(bytesSent(() -> studyRepository.findWithTagsAndZonesByIds(studyIds)) < LOB_SIZE);
+        assertTrue(bytesSent(() -> studyRepository.findFirst5ByManagersContainingAndClosedOrderByPublishedDateTimeDesc(manager, false)) < LOB_SIZE);
+    }
+
+    @DisplayName("계정과 알림 대상 조회는 큰 컬럼을 읽지 않는다.")
+    @Test
+    void accounts() {
+        assertTrue(bytesSent(() -> accountRepository.findByNickname("lob-manager")) < LOB_SIZE);
+        assertTrue(bytesSent(() -> accountRepository.findStudyCreatedRecipients(Set.of(tag), Set.of(zone), null, 500)) < LOB_SIZE);
+    }
+
+    @DisplayName("LOB 컬럼은 접근할 때 따로 읽는다.")
+    @Test
+    void lazy_lob() {
+        entityManager.flush();
+        entityManager.clear();
+        Study study = studyRepository.findStudyOnlyByPath("lob-study-0");
+
+        assertTrue(bytesSent(() -> assertEquals(LOB_SIZE, study.getFullDescription().length())) >= LOB_SIZE);
+    }
+
+    private long bytesSent(Runnable query) {
+        entityManager.flush();
+        long before = bytesSent();
+        query.run();
+        return bytesSent() - before;
+    }
+
+    private long bytesSent() {
+        Object[] row = (Object[]) entityManager.createNativeQuery("show session status like 'Bytes_sent'").getSingleResult();
+        return Long.parseLong(row[1].toString());
+    }
+
+    private String largeText(char c) {
+        return String.valueOf(c).repeat(LOB_SIZE);
+    }
+}
@@ -0,0 +1,52 @@
+package com.studyolle.modules.study;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongHashSetTest {
+
+    @DisplayName("추가, 삭제, 조회 결과가 HashSet과 같다.")
+    @Test
+    void same_as_hash_set() {
+        LongHashSet longHashSet = new LongHashSet(0);
+        Set<Long> expected = new HashSet<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 200_000; i++) {
+            long value = random.nextInt(5_000) - 100;
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(value), longHashSet.remove(value));
+            } else {
+                assertEquals(expected.add(value), longHashSet.add(value));
+            }
+        }
+
+        assertEquals(expected.size(), longHashSet.size());
+        for (long value = -100; value < 4_900; value++) {
+            assertEquals(expected.contains(value), longHashSet.contains(value));
+        }
+    }
+
+    @DisplayName("연속된 아이디를 지워도 나머지 아이디를 찾을 수 있다.")
+    @Test
+    void remove_keeps_probe_chain() {
+        LongHashSet longHashSet = new LongHashSet(16);
+        for (long id = 1; id <= 1_000; id++) {
+            longHashSet.add(id);
+        }
+        for (long id = 1; id <= 1_000; id += 2) {
+            assertTrue(longHashSet.remove(id));
+        }
+
+        assertEquals(500, longHashSet.size());
+        for (long id = 1; id <= 1_000; id++) {
+            assertEquals(id % 2 == 0, longHashSet.contains(id));
+        }
+    }
+}
@@ -15,6 +15,7 @@ import org.springframework.security.test.context.support.TestExecutionEvent;
 import org.springframework.security.test.context.support.WithUserDetails;
 import org.springframework.test.web.servlet.MockMvc;
 
+import static org.hamcrest.Matchers.*;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -107,7 +108,8 @@ public class StudyControllerTest extends AbstractContainerBaseTest {
         mockMvc.perform(get("/study/test-path"))
                 .andExpect(view().name("study/view"))
                 .andExpect(model().attributeExists("account"))
-                .andExpect(model().attributeExists("study"));
+                .andExpect(model().attributeExists("study"))
+                .andExpect(model().attribute("isMember", false));
     }
 
     @Test
@@ -122,7 +124,9 @@ public class StudyControllerTest extends AbstractContainerBaseTest {
                 .andExpect(redirectedUrl("/study/" + study.getPath() + "/members"));
 
         Account aiden = accountRepository.findByNickname("aiden");
-        assertTrue(study.getMembers().contains(aiden));
+        Study joined = studyRepository.findStudyWithManagersAndMembersById(study.getId());
+        assertTrue(joined.getMembers().contains(aiden));
+        assertEquals(1, joined.getMemberCount());
     }
 
     @Test
@@ -139,6 +143,68 @@ public class StudyControllerTest extends AbstractContainerBaseTest {
                 .andExpect(status().is3xxRedirection())
                 .andExpect(redirectedUrl("/study/" + study.getPath() + "/members"));
 
-        assertFalse(study.getMembers().contains(aiden));
+        Study left = studyRepository.findStudyWithManagersAndMembersById(study.getId());
+        assertFalse(left.getMembers().contains(aiden));
+        assertEquals(0, left.getMemberCount());
     }
-}
\ No newline at end of file
+
+    @Test
+    @WithUserDetails(value = "aiden", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+    @DisplayName("스터디 구성원 조회 - 첫 페이지")
+    void viewStudyMembers_firstPage() throws Exception {
+        Account jeong = accountFactory.createAccount("jeong");
+        Study study = studyFactory.createStudy("test-study", jeong);
+        Long lastOfPage = addMembers(study, StudyService.MEMBER_PAGE_SIZE + 5);
+
+        mockMvc.perform(get("/study/" + study.getPath() + "/members"))
+                .andExpect(status().isOk())
+                .andExpect(view().name("study/members"))
+                .andExpect(model().attribute("managers", hasSize(1)))
+                .andExpect(model().attribute("studyMemberPage", hasProperty("members", hasSize(StudyService.MEMBER_PAGE_SIZE))))
+                .andExpect(model().attribute("studyMemberPage", hasProperty("next", is(lastOfPage))));
+    }
+
+    @Test
+    @DisplayName("스터디 구성원 조회 - 현재 회원의 가입 여부만 조회")
+    void getStudyToView_checks_current_account() {
+        Account jeong = accountFactory.createAccount("jeong");
+        Study study = studyFactory.createStudy("test-study", jeong);
+        addMembers(study, 3);
+
+        Account aiden = accountRepository.findByNickname("aiden");
+        studyService.addMember(study, aiden);
+        Account may = accountFactory.createAccount("may");
+
+        Study viewed = studyService.getStudyToView(aiden, study.getPath());
+        assertTrue(studyService.isMember(viewed, aiden));
+        assertFalse(studyService.isMember(viewed, may));
+    }
+
+    @Test
+    @WithUserDetails(value = "aiden", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+    @DisplayName("스터디 구성원 조회 - 다음 페이지")
+    void studyMemberPage_nextPage() throws Exception {
+        Account jeong = accountFactory.createAccount("jeong");
+        Study study = studyFactory.createStudy("test-study", jeong);
+        Long lastOfPage = addMembers(study, StudyService.MEMBER_PAGE_SIZE + 5);
+
+        mockMvc.perform(get("/study/" + study.getPath() + "/members/page")
+                .param("after", String.valueOf(lastOfPage)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.members", hasSize(5)))
+                .andExpect(jsonPath("$.members[0].nickname").value("member" + StudyService.MEMBER_PAGE_SIZE))
+                .andExpect(jsonPath("$.next").doesNotExist());
+    }
+
+    private Long addMembers(Study study, int count) {
+        Long lastOfPage = null;
+        for (int i = 0; i < count; i++) {
+            Account member = accountFactory.createAccount("member" + i);
+            studyService.addMember(study, member);
+            if (i == StudyService.MEMBER_PAGE_SIZE - 1) {
+                lastOfPage = member.getId();
+            }
+        }
+        return lastOfPage;
+    }
+}
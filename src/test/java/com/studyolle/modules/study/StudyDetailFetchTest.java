@@ -0,0 +1,104 @@
+package com.studyolle.modules.study;
+
+import com.studyolle.infra.AbstractContainerBaseTest;
+import com.studyolle.infra.MockMvcTest;
+import com.studyolle.modules.account.Account;
+import com.studyolle.modules.account.AccountFactory;
+import com.studyolle.modules.account.AccountService;
+import com.studyolle.modules.account.form.SignUpForm;
+import com.studyolle.modules.tag.TagService;
+import com.studyolle.modules.zone.ZoneRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.test.context.support.TestExecutionEvent;
+import org.springframework.security.test.context.support.WithUserDetails;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.view;
+
+@MockMvcTest
+class StudyDetailFetchTest extends AbstractContainerBaseTest {
+
+    private static final int NUMBER_OF_TAGS = 5;
+
+    private static final int NUMBER_OF_ZONES = 5;
+
+    private static final int NUMBER_OF_MEMBERS = 20;
+
+    @Autowired MockMvc mockMvc;
+    @Autowired EntityManager entityManager;
+    @Autowired EntityManagerFactory entityManagerFactory;
+    @Autowired AccountService accountService;
+    @Autowired AccountFactory accountFactory;
+    @Autowired StudyRepository studyRepository;
+    @Autowired TagService tagService;
+    @Autowired ZoneRepository zoneRepository;
+
+    Statistics statistics;
+    int numberOfManagers;
+
+    @BeforeEach
+    void beforeEach() {
+        SignUpForm signUpForm = new SignUpForm();
+        signUpForm.setNickname("aiden");
+        signUpForm.setEmail("test@email.com");
+        signUpForm.setPassword("12345678");
+        Account aiden = accountService.processNewAccount(signUpForm);
+
+        Study study = new Study();
+        study.setPath("detail-study");
+        study.setTitle("detail-study");
+        study.setFullDescription("detail-study");
+        study.addManager(aiden);
+        study.addManager(accountFactory.createAccount("detail-manager"));
+        for (int i = 0; i < NUMBER_OF_TAGS; i++) {
+            study.getTags().add(tagService.findOrCreateNew("detail-tag-" + i));
+        }
+        study.getZones().addAll(zoneRepository.findAll().subList(0, NUMBER_OF_ZONES));
+        for (int i = 0; i < NUMBER_OF_MEMBERS; i++) {
+            study.addMember(accountFactory.createAccount("detail-member-" + i));
+        }
+        studyRepository.save(study);
+        numberOfManagers = study.getManagers().size();
+
+        entityManager.flush();
+        entityManager.clear();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void afterEach() {
+        statistics.setStatisticsEnabled(false);
+    }
+
+    @WithUserDetails(value = "aiden", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+    @DisplayName("스터디 상세 조회는 컬렉션마다 따로 읽어 행 수가 컬렉션 크기의 합을 넘지 않는다.")
+    @Test
+    void view_study_without_cartesian_product() throws Exception {
+        statistics.clear();
+        statistics.setStatisticsEnabled(true);
+
+        mockMvc.perform(get("/study/detail-study"))
+                .andExpect(status().isOk())
+                .andExpect(view().name("study/view"));
+
+        long rows = Arrays.stream(statistics.getQueries())
+                .mapToLong(query -> statistics.getQueryStatistics(query).getExecutionRowCount())
+                .sum();
+        int linear = 1 + NUMBER_OF_TAGS + NUMBER_OF_ZONES + numberOfManagers + NUMBER_OF_MEMBERS;
+        assertTrue(rows <= linear + 5, "rows: " + rows);
+        assertTrue(statistics.getPrepareStatementCount() <= 10, "statements: " + statistics.getPrepareStatementCount());
+    }
+}
@@ -0,0 +1,100 @@
+package com.studyolle.modules.study;
+
+import com.studyolle.infra.AbstractContainerBaseTest;
+import com.studyolle.modules.account.Account;
+import com.studyolle.modules.account.AccountFactory;
+import com.studyolle.modules.account.AccountRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ActiveProfiles("test")
+@SpringBootTest
+class StudyMembershipConcurrencyTest extends AbstractContainerBaseTest {
+
+    private static final int NUMBER_OF_ACCOUNTS = 50;
+
+    private static final int REQUESTS_PER_ACCOUNT = 2;
+
+    @Autowired StudyService studyService;
+    @Autowired StudyRepository studyRepository;
+    @Autowired StudyFactory studyFactory;
+    @Autowired AccountFactory accountFactory;
+    @Autowired AccountRepository accountRepository;
+
+    Account manager;
+    Study study;
+    List<Account> accounts = new ArrayList<>();
+
+    @BeforeEach
+    void beforeEach() {
+        manager = accountFactory.createAccount("concurrency-manager");
+        study = studyFactory.createStudy("concurrency-study", manager);
+        for (int i = 0; i < NUMBER_OF_ACCOUNTS; i++) {
+            accounts.add(accountFactory.createAccount("concurrency-member-" + i));
+        }
+    }
+
+    @AfterEach
+    void afterEach() {
+        studyRepository.deleteById(study.getId());
+        accountRepository.deleteAll(accounts);
+        accountRepository.delete(manager);
+    }
+
+    @DisplayName("여러 명이 동시에 가입하고 탈퇴해도 멤버 수가 어긋나지 않는다.")
+    @Test
+    void join_and_leave_concurrently() throws InterruptedException {
+        runConcurrently(studyService::addMember);
+
+        Study joined = studyRepository.findStudyWithManagersAndMembersById(study.getId());
+        assertEquals(NUMBER_OF_ACCOUNTS, joined.getMembers().size());
+        assertEquals(NUMBER_OF_ACCOUNTS, joined.getMemberCount());
+
+        runConcurrently(studyService::removeMember);
+
+        Study left = studyRepository.findStudyWithManagersAndMembersById(study.getId());
+        assertTrue(left.getMembers().isEmpty());
+        assertEquals(0, left.getMemberCount());
+    }
+
+    private void runConcurrently(BiConsumer<Study, Account> action) throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(NUMBER_OF_ACCOUNTS);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(NUMBER_OF_ACCOUNTS * REQUESTS_PER_ACCOUNT);
+        AtomicInteger failures = new AtomicInteger();
+        for (int i = 0; i < NUMBER_OF_ACCOUNTS * REQUESTS_PER_ACCOUNT; i++) {
+            Account account = accounts.get(i % NUMBER_OF_ACCOUNTS);
+            executorService.execute(() -> {
+                try {
+                    start.await();
+                    action.accept(study, account);
+                } catch (Exception e) {
+                    failures.incrementAndGet();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        assertTrue(done.await(2, TimeUnit.MINUTES));
+        executorService.shutdown();
+
+        assertEquals(0, failures.get());
+    }
+}
@@ -0,0 +1,115 @@
+package com.studyolle.modules.study;
+
+import com.studyolle.modules.tag.Tag;
+import com.studyolle.modules.zone.Zone;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StudySearchIndexTest {
+
+    StudySearchIndex studySearchIndex;
+
+    @BeforeEach
+    void beforeEach() {
+        studySearchIndex = new StudySearchIndex(null);
+    }
+
+    @AfterEach
+    void afterEach() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @DisplayName("스터디 이름, 짧은 소개, 관심 주제, 활동 지역으로 검색")
+    @Test
+    void search() {
+        studySearchIndex.update(createStudy(1L, "Spring 스터디", "스프링 부트 입문", "JPA", "Seoul", "서울"));
+        studySearchIndex.update(createStudy(2L, "자바 스터디", "자바 기초", "Spring", "Busan", "부산"));
+        studySearchIndex.update(createStudy(3L, "알고리즘", "코딩 테스트 준비", "Python", "Seoul", "서울"));
+
+        assertEquals(List.of(1L, 2L), studySearchIndex.search("spring"));
+        assertEquals(List.of(3L, 1L), studySearchIndex.search("서울"));
+        assertEquals(List.of(1L), studySearchIndex.search("부트"));
+        assertEquals(List.of(2L, 1L), studySearchIndex.search("스터디"));
+        assertTrue(studySearchIndex.search("kotlin").isEmpty());
+    }
+
+    @DisplayName("한 글자 키워드도 검색")
+    @Test
+    void search_with_one_character() {
+        studySearchIndex.update(createStudy(1L, "Go 스터디", "", "Go", "Seoul", "서울"));
+
+        assertEquals(List.of(1L), studySearchIndex.search("G"));
+    }
+
+    @DisplayName("스터디 정보를 수정하면 색인도 갱신")
+    @Test
+    void update() {
+        Study study = createStudy(1L, "Spring 스터디", "스프링 부트 입문", "JPA", "Seoul", "서울");
+        studySearchIndex.update(study);
+
+        study.setTitle("Kotlin 스터디");
+        studySearchIndex.update(study);
+
+        assertTrue(studySearchIndex.search("spring").isEmpty());
+        assertEquals(List.of(1L), studySearchIndex.search("kotlin"));
+    }
+
+    @DisplayName("공개하지 않았거나 삭제한 스터디는 검색되지 않는다.")
+    @Test
+    void not_published_or_removed() {
+        Study study = createStudy(1L, "Spring 스터디", "스프링 부트 입문", "JPA", "Seoul", "서울");
+        study.setPublished(false);
+        studySearchIndex.update(study);
+        assertTrue(studySearchIndex.search("spring").isEmpty());
+
+        study.setPublished(true);
+        studySearchIndex.update(study);
+        studySearchIndex.remove(1L);
+        assertTrue(studySearchIndex.search("spring").isEmpty());
+    }
+
+    @DisplayName("트랜잭션이 커밋된 뒤에만 색인에 반영")
+    @Test
+    void update_after_commit() {
+        TransactionSynchronizationManager.initSynchronization();
+        studySearchIndex.update(createStudy(1L, "Spring 스터디", "스프링 부트 입문", "JPA", "Seoul", "서울"));
+        assertTrue(studySearchIndex.search("spring").isEmpty());
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertEquals(List.of(1L), studySearchIndex.search("spring"));
+    }
+
+    @DisplayName("롤백된 변경은 색인에 반영하지 않는다.")
+    @Test
+    void update_rolled_back() {
+        TransactionSynchronizationManager.initSynchronization();
+        studySearchIndex.update(createStudy(1L, "Spring 스터디", "스프링 부트 입문", "JPA", "Seoul", "서울"));
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        assertTrue(studySearchIndex.search("spring").isEmpty());
+    }
+
+    private Study createStudy(Long id, String title, String shortDescription, String tagTitle,
+                              String city, String localNameOfCity) {
+        Study study = new Study();
+        study.setId(id);
+        study.setTitle(title);
+        study.setShortDescription(shortDescription);
+        study.setPublished(true);
+        study.getTags().add(Tag.builder().id(id).title(tagTitle).build());
+        study.getZones().add(Zone.builder().id(id).city(city).localNameOfCity(localNameOfCity).province("").build());
+        return study;
+    }
+}
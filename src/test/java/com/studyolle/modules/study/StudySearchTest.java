@@ -0,0 +1,126 @@
+package com.studyolle.modules.study;
+
+import com.studyolle.infra.AbstractContainerBaseTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@ActiveProfiles("test")
+@SpringBootTest
+class StudySearchTest extends AbstractContainerBaseTest {
+
+    private static final String KEYWORD = "searchpaging";
+
+    private static final int NUMBER_OF_STUDIES = 5;
+
+    @Autowired StudyRepository studyRepository;
+    @Autowired StudySearchIndex studySearchIndex;
+
+    List<Study> studies = new ArrayList<>();
+
+    @BeforeEach
+    void beforeEach() {
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < NUMBER_OF_STUDIES; i++) {
+            Study study = new Study();
+            study.setPath(KEYWORD + "-" + i);
+            study.setTitle(KEYWORD + " " + i);
+            study.setShortDescription(KEYWORD);
+            study.setPublished(true);
+            study.setPublishedDateTime(now.minusDays(i));
+            study.setMemberCount(i);
+            studies.add(studyRepository.save(study));
+            studySearchIndex.update(study);
+        }
+    }
+
+    @AfterEach
+    void afterEach() {
+        studies.forEach(study -> studySearchIndex.remove(study.getId()));
+        studyRepository.deleteAll(studies);
+    }
+
+    @DisplayName("공개일 역순으로 페이지를 나눠 검색")
+    @Test
+    void search_sorted_by_published_date_time() {
+        Sort sort = Sort.by(Sort.Direction.DESC, "publishedDateTime");
+
+        Page<Study> firstPage = studyRepository.findByKeyword(KEYWORD, PageRequest.of(0, 2, sort));
+        assertEquals(List.of(idOf(0), idOf(1)), ids(firstPage));
+        assertEquals(NUMBER_OF_STUDIES, firstPage.getTotalElements());
+        assertEquals(3, firstPage.getTotalPages());
+
+        Page<Study> lastPage = studyRepository.findByKeyword(KEYWORD, PageRequest.of(2, 2, sort));
+        assertEquals(List.of(idOf(4)), ids(lastPage));
+    }
+
+    @DisplayName("멤버 수 역순으로 페이지를 나눠 검색")
+    @Test
+    void search_sorted_by_member_count() {
+        Page<Study> page = studyRepository.findByKeyword(KEYWORD,
+                PageRequest.of(0, 3, Sort.by(Sort.Direction.DESC, "memberCount")));
+
+        assertEquals(List.of(idOf(4), idOf(3), idOf(2)), ids(page));
+    }
+
+    @DisplayName("정렬 조건이 없으면 색인의 관련도 순서를 따른다.")
+    @Test
+    void search_unsorted() {
+        Page<Study> page = studyRepository.findByKeyword(KEYWORD, PageRequest.of(1, 2));
+
+        assertEquals(studySearchIndex.search(KEYWORD).subList(2, 4), ids(page));
+        assertEquals(NUMBER_OF_STUDIES, page.getTotalElements());
+    }
+
+    @DisplayName("색인에 남아 있어도 DB에서 사라진 스터디는 전체 개수에서 빠진다.")
+    @Test
+    void search_total_excludes_missing_studies() {
+        studyRepository.deleteById(idOf(NUMBER_OF_STUDIES - 1));
+
+        Page<Study> page = studyRepository.findByKeyword(KEYWORD,
+                PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "publishedDateTime")));
+
+        assertEquals(NUMBER_OF_STUDIES - 1, page.getTotalElements());
+        assertEquals(List.of(idOf(0), idOf(1), idOf(2), idOf(3)), ids(page));
+    }
+
+    @DisplayName("멤버 수가 바뀌면 색인의 정렬 순서에 바로 반영된다.")
+    @Test
+    void search_sorted_by_changed_member_count() {
+        studySearchIndex.addMemberCount(idOf(0), NUMBER_OF_STUDIES);
+
+        Page<Study> page = studyRepository.findByKeyword(KEYWORD,
+                PageRequest.of(0, 1, Sort.by(Sort.Direction.DESC, "memberCount")));
+
+        assertEquals(List.of(idOf(0)), ids(page));
+    }
+
+    @DisplayName("지원하지 않는 정렬 조건은 거부한다.")
+    @Test
+    void search_rejects_unsupported_sort() {
+        assertThrows(IllegalArgumentException.class, () -> studySearchIndex.search(KEYWORD, Sort.by("title")));
+    }
+
+    private Long idOf(int index) {
+        return studies.get(index).getId();
+    }
+
+    private List<Long> ids(Page<Study> page) {
+        return page.getContent().stream().map(Study::getId).collect(Collectors.toList());
+    }
+}
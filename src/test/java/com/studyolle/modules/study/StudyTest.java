@@ -7,6 +7,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class StudyTest {
@@ -19,6 +20,7 @@ class StudyTest {
     void beforeEach() {
         study = new Study();
         account = new Account();
+        account.setId(1L);
         account.setNickname("aiden");
         account.setPassword("123");
         userAccount = new UserAccount(account);
@@ -80,4 +82,38 @@ class StudyTest {
         study.addMember(account);
         assertTrue(study.isMember(userAccount));
     }
-}
\ No newline at end of file
+
+    @DisplayName("역할을 확인한 뒤에 추가한 멤버도 멤버로 확인")
+    @Test
+    void isMember_after_index_built() {
+        Account jeong = new Account();
+        jeong.setNickname("jeong");
+        jeong.setPassword("123");
+        assertFalse(study.isMember(userAccount));
+
+        study.addMember(account);
+        study.addMember(jeong);
+        jeong.setId(2L);
+
+        assertTrue(study.isMember(userAccount));
+        assertTrue(study.isMember(new UserAccount(jeong)));
+    }
+
+    @DisplayName("탈퇴한 멤버는 더 이상 멤버가 아니다.")
+    @Test
+    void isMember_false_after_removeMember() {
+        study.addMember(account);
+        assertTrue(study.isMember(userAccount));
+
+        study.removeMember(account);
+
+        assertFalse(study.isMember(userAccount));
+    }
+
+    @DisplayName("관리자와 멤버 목록은 스터디를 거치지 않고 바꿀 수 없다.")
+    @Test
+    void managers_and_members_are_read_only() {
+        assertThrows(UnsupportedOperationException.class, () -> study.getManagers().add(account));
+        assertThrows(UnsupportedOperationException.class, () -> study.getMembers().add(account));
+    }
+}
@@ -0,0 +1,73 @@
+package com.studyolle.modules.tag;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+class TagCacheTest {
+
+    TagRepository tagRepository;
+    TagCache tagCache;
+
+    @BeforeEach
+    void beforeEach() {
+        tagRepository = mock(TagRepository.class);
+        when(tagRepository.findAll()).thenReturn(List.of(
+                Tag.builder().id(1L).title("Spring").build(),
+                Tag.builder().id(2L).title("JPA").build()));
+        tagCache = new TagCache(tagRepository, new ObjectMapper());
+        tagCache.initCache();
+    }
+
+    @DisplayName("캐시에 있는 태그는 DB에서 다시 조회하지 않는다.")
+    @Test
+    void findByTitle() {
+        assertEquals(1L, tagCache.get("Spring").getId());
+        assertEquals(1L, tagCache.findByTitle("Spring").getId());
+        assertNull(tagCache.get("Kotlin"));
+        assertNull(tagCache.findByTitle("Kotlin"));
+
+        verify(tagRepository, never()).findByTitle("Spring");
+        verify(tagRepository, times(1)).findByTitle("Kotlin");
+    }
+
+    @DisplayName("새 태그를 추가하면 화이트리스트와 ETag를 갱신한다.")
+    @Test
+    void put() {
+        String eTag = tagCache.getWhitelist().getETag();
+        assertEquals("[\"Spring\",\"JPA\"]", new String(tagCache.getWhitelist().getBody(), StandardCharsets.UTF_8));
+
+        Tag kotlin = tagCache.put(Tag.builder().id(3L).title("Kotlin").build());
+        assertSame(kotlin, tagCache.put(Tag.builder().id(4L).title("Kotlin").build()));
+
+        assertEquals("[\"Spring\",\"JPA\",\"Kotlin\"]", new String(tagCache.getWhitelist().getBody(), StandardCharsets.UTF_8));
+        assertNotEquals(eTag, tagCache.getWhitelist().getETag());
+        assertEquals(3L, tagCache.get("Kotlin").getId());
+    }
+
+    @DisplayName("ETag가 같으면 화이트리스트를 다시 보내지 않는다.")
+    @Test
+    void whitelist_not_modified() throws Exception {
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new TagController(tagCache)).build();
+        String eTag = "\"" + tagCache.getWhitelist().getETag() + "\"";
+
+        mockMvc.perform(get(TagCache.WHITELIST_URL))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", eTag))
+                .andExpect(content().json("[\"Spring\",\"JPA\"]"));
+
+        mockMvc.perform(get(TagCache.WHITELIST_URL).header("If-None-Match", eTag))
+                .andExpect(status().isNotModified());
+    }
+}
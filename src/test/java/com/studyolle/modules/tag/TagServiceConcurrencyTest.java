@@ -0,0 +1,70 @@
+package com.studyolle.modules.tag;
+
+import com.studyolle.infra.AbstractContainerBaseTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ActiveProfiles("test")
+@SpringBootTest
+class TagServiceConcurrencyTest extends AbstractContainerBaseTest {
+
+    private static final int NUMBER_OF_TITLES = 20;
+
+    private static final int REQUESTS_PER_TITLE = 50;
+
+    private static final int NUMBER_OF_THREADS = 8;
+
+    @Autowired TagService tagService;
+    @Autowired TagCache tagCache;
+    @Autowired TagRepository tagRepository;
+
+    @DisplayName("같은 태그를 동시에 추가해도 하나만 만들고, 모든 요청이 다시 시도하지 않고 같은 태그를 받는다.")
+    @Test
+    void findOrCreateNew_concurrently() throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(NUMBER_OF_THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(NUMBER_OF_TITLES * REQUESTS_PER_TITLE);
+        AtomicInteger failures = new AtomicInteger();
+        Map<String, Set<Long>> idsByTitle = new ConcurrentHashMap<>();
+        for (int i = 0; i < NUMBER_OF_TITLES * REQUESTS_PER_TITLE; i++) {
+            String title = "concurrency-tag-" + (i % NUMBER_OF_TITLES);
+            executorService.execute(() -> {
+                try {
+                    start.await();
+                    Tag tag = tagService.findOrCreateNew(title);
+                    idsByTitle.computeIfAbsent(title, key -> ConcurrentHashMap.newKeySet()).add(tag.getId());
+                } catch (Exception e) {
+                    failures.incrementAndGet();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        assertTrue(done.await(2, TimeUnit.MINUTES));
+        executorService.shutdown();
+
+        assertEquals(0, failures.get());
+        assertEquals(NUMBER_OF_TITLES, idsByTitle.size());
+        idsByTitle.forEach((title, ids) -> {
+            assertEquals(1, ids.size());
+            Long id = ids.iterator().next();
+            assertEquals(id, tagRepository.findByTitle(title).getId());
+            assertEquals(id, tagCache.get(title).getId());
+        });
+    }
+}